@@ -0,0 +1,81 @@
+package com.SwitchBoard.AuthService.Config;
+
+import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits of the account import, which are far larger than any other request's: the upload size, declared up
+ * front so an oversized file is refused before a row is written, and how many imports run at once. Unordered,
+ * so it runs after the security chain and only admins ever hold a slot.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class AccountImportLimitFilter extends OncePerRequestFilter {
+
+    private static final String IMPORT_PATH = "/api/v1/auth/account/import";
+
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final long maxBytes;
+
+    public AccountImportLimitFilter(ObjectMapper objectMapper,
+                                    @Value("${account.import.max-bytes:52428800}") long maxBytes,
+                                    @Value("${account.import.max-concurrent:2}") int maxConcurrent) {
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !IMPORT_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0) {
+            reject(request, response, HttpStatus.LENGTH_REQUIRED, "Content-Length is required", "LENGTH_REQUIRED");
+            return;
+        }
+        if (contentLength > maxBytes) {
+            log.warn("AccountImportLimitFilter : doFilterInternal : Upload of {} bytes refused, limit is {}", contentLength, maxBytes);
+            reject(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "Import may be at most " + maxBytes + " bytes", "PAYLOAD_TOO_LARGE");
+            return;
+        }
+        if (!permits.tryAcquire()) {
+            log.warn("AccountImportLimitFilter : doFilterInternal : Import refused, too many already running");
+            reject(request, response, HttpStatus.TOO_MANY_REQUESTS, "Another import is running, please retry later", "TOO_MANY_REQUESTS");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        String message, String code) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message, code, request.getRequestURI()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.SwitchBoard.AuthService.Config;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins read-only transactions on the current thread to the primary, for reads that must see
+ * a write the replicas may not have replayed yet. Has no effect without replicas.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    /** Runs {@code work} with its transactions on the primary; a transaction that already ran a statement keeps its connection. */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+}
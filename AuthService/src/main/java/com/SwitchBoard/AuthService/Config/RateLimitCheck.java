@@ -0,0 +1,89 @@
+package com.SwitchBoard.AuthService.Config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Keys and arguments of one scripts/rate-limit.lua call, shared by {@link RateLimitFilter} and
+ * {@link ReactiveRateLimitFilter} so both stacks charge the same buckets.
+ */
+final class RateLimitCheck {
+
+    static final String AUTH_PATH = "/api/v1/auth/";
+    // Auth request bodies are a few dozen bytes
+    static final int MAX_BODY_BYTES = 4096;
+
+    private final List<String> dimensions = new ArrayList<>(3);
+    private final List<String> keys = new ArrayList<>(3);
+    private final List<String> args = new ArrayList<>(6);
+
+    /**
+     * All buckets of an endpoint share the hash tag {@code {<endpoint>}}, so the script's keys are in one
+     * cluster slot. {@code email} may be null, which leaves the email bucket out.
+     */
+    RateLimitCheck(RateLimitProperties properties, String endpoint, String clientAddress, String email) {
+        RateLimitProperties.EndpointLimits limits = properties.getEndpoints().get(endpoint);
+        String prefix = properties.getPrefix() + "{" + endpoint + "}:";
+        addBucket(limits.getIp(), "ip", prefix + "ip:" + clientAddress);
+        if (email != null) {
+            addBucket(limits.getEmail(), "email", prefix + "email:" + email);
+        }
+        addBucket(limits.getGlobal(), "global", prefix + "global");
+    }
+
+    /** The configured endpoint a request path is limited as, or null if it is not limited. */
+    static String endpointOf(RateLimitProperties properties, String path) {
+        if (!path.startsWith(AUTH_PATH)) {
+            return null;
+        }
+        String endpoint = path.substring(AUTH_PATH.length());
+        return properties.getEndpoints().containsKey(endpoint) ? endpoint : null;
+    }
+
+    /** The body is only peeked at; a malformed one is rejected by the controller as before. */
+    static String emailOf(ObjectMapper objectMapper, byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() && !email.asText().isBlank()
+                    ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    List<String> keys() {
+        return keys;
+    }
+
+    Object[] args() {
+        return args.toArray();
+    }
+
+    /** The dimension whose bucket refused the request, or null if the script let it through. */
+    String rejectedDimension(List<Long> result) {
+        return result != null && result.get(0) > 0 ? dimensions.get(result.get(0).intValue() - 1) : null;
+    }
+
+    static long retryAfterSeconds(List<Long> result) {
+        return Math.max(1, (result.get(1) + 999) / 1000);
+    }
+
+    private void addBucket(RateLimitProperties.Bucket bucket, String dimension, String key) {
+        if (bucket == null || bucket.getCapacity() <= 0 || bucket.getRefillPerMinute() <= 0) {
+            return;
+        }
+        dimensions.add(dimension);
+        keys.add(key);
+        args.add(Integer.toString(bucket.getCapacity()));
+        args.add(Double.toString(bucket.getRefillPerMinute()));
+    }
+}
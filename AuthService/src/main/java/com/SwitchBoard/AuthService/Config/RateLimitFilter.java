@@ -0,0 +1,162 @@
+package com.SwitchBoard.AuthService.Config;
+
+import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import com.SwitchBoard.AuthService.Metrics.AuthMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Token-bucket limits on the unauthenticated auth endpoints, checked per client address, per email
+ * and globally in one Redis script call (scripts/rate-limit.lua). Runs ahead of every other filter,
+ * so refused requests never reach the account lookup, the OTP store or Kafka. If Redis cannot be
+ * reached the request is let through; the OTP flow itself will fail on Redis anyway.
+ * All buckets of one endpoint share the hash tag {@code {<endpoint>}}, so the script's keys are in
+ * one cluster slot. That puts every rate-limit check of an endpoint on a single shard; the global
+ * bucket already made it a hotspot, and each check is one short script call.
+ * {@link ReactiveRateLimitFilter} charges the same buckets under the {@code reactive} profile.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Profile("!reactive")
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<List<Long>> rateLimitScript;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+
+    public RateLimitFilter(StringRedisTemplate stringRedisTemplate, RedisScript<List<Long>> rateLimitScript,
+                           RateLimitProperties properties, ObjectMapper objectMapper, AuthMetrics authMetrics) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.rateLimitScript = rateLimitScript;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || RateLimitCheck.endpointOf(properties, request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = RateLimitCheck.endpointOf(properties, request.getRequestURI());
+
+        byte[] body = request.getInputStream().readNBytes(RateLimitCheck.MAX_BODY_BYTES + 1);
+        if (body.length > RateLimitCheck.MAX_BODY_BYTES) {
+            reject(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large", "PAYLOAD_TOO_LARGE");
+            return;
+        }
+
+        RateLimitCheck check = new RateLimitCheck(properties, endpoint, request.getRemoteAddr(), RateLimitCheck.emailOf(objectMapper, body));
+        List<Long> result = null;
+        if (!check.isEmpty()) {
+            try {
+                result = stringRedisTemplate.execute(rateLimitScript, check.keys(), check.args());
+            } catch (RuntimeException e) {
+                log.warn("RateLimitFilter : doFilterInternal : Rate limit not checked, letting request through - {}", e.getMessage());
+                authMetrics.rateLimitUnavailable();
+            }
+        }
+
+        String dimension = check.rejectedDimension(result);
+        if (dimension != null) {
+            authMetrics.rateLimited(endpoint, dimension);
+            log.warn("RateLimitFilter : doFilterInternal : {} limit reached at URI: {}", dimension, request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(RateLimitCheck.retryAfterSeconds(result)));
+            reject(request, response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please retry later", "TOO_MANY_REQUESTS");
+            return;
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        String message, String code) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message, code, request.getRequestURI()));
+    }
+
+    /** Replays the body that was read for the email lookup to the rest of the chain. */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Body has already been read");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+    }
+}
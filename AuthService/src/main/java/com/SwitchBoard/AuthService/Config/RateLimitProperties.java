@@ -0,0 +1,39 @@
+package com.SwitchBoard.AuthService.Config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Token buckets for the unauthenticated auth endpoints ({@code app.rate-limit.*}), see {@link RateLimitFilter}.
+ * {@code endpoints} is keyed by the path under /api/v1/auth (e.g. {@code send-otp}); a dimension left
+ * unset is not limited.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private String prefix = "rl:";
+    private Map<String, EndpointLimits> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class EndpointLimits {
+        /** Per client address, as resolved by the servlet container (see server.forward-headers-strategy). */
+        private Bucket ip;
+        /** Per email in the request body, lower-cased. */
+        private Bucket email;
+        /** Shared by every caller of the endpoint. */
+        private Bucket global;
+    }
+
+    @Data
+    public static class Bucket {
+        /** Largest burst. */
+        private int capacity;
+        /** Sustained rate once the burst is spent. */
+        private double refillPerMinute;
+    }
+}
@@ -0,0 +1,76 @@
+package com.SwitchBoard.AuthService.Config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * Server and non-blocking clients for the {@code reactive} profile. The R2DBC pool points at the same
+ * database as the JDBC pool, which the outbox relay and purge job keep using.
+ * The pool is deliberately not exposed as a ConnectionFactory bean: Boot skips the DataSource
+ * (and with it JPA) whenever one exists.
+ */
+@Configuration
+@Profile("reactive")
+@Slf4j
+public class ReactiveConfig {
+
+    private ConnectionPool connectionPool;
+
+    /** Netty rather than Tomcat, which Boot would otherwise prefer because the servlet stack is on the classpath. */
+    @Bean
+    public NettyReactiveWebServerFactory reactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(@Value("${spring.datasource.url}") String jdbcUrl,
+                                                 @Value("${spring.datasource.username}") String username,
+                                                 @Value("${spring.datasource.password}") String password,
+                                                 @Value("${app.reactive.r2dbc.pool-size:20}") int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(jdbcUrl.replaceFirst("^jdbc:", "r2dbc:"))
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(Math.min(poolSize, 5))
+                .maxSize(poolSize)
+                .maxAcquireTime(Duration.ofSeconds(10))
+                .build());
+        log.info("ReactiveConfig : reactiveDatabaseClient : R2DBC pool of {} connections to {}", poolSize, options.getValue(ConnectionFactoryOptions.HOST));
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /** Byte values, matching {@link RedisConfig#otpRedisTemplate}. */
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactiveOtpRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+        RedisSerializationContext<String, byte[]> context = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(RedisSerializer.string())
+                .value(RedisSerializer.byteArray())
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, context);
+    }
+
+    @PreDestroy
+    void close() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.SwitchBoard.AuthService.Config;
+
+import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import com.SwitchBoard.AuthService.Metrics.AuthMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link RateLimitFilter} for the {@code reactive} profile: the same scripts/rate-limit.lua call on the same
+ * buckets, ahead of the security chain and the handlers, without blocking the event loop.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Profile("reactive")
+@ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
+@Slf4j
+public class ReactiveRateLimitFilter implements WebFilter {
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final RedisScript<List<Long>> rateLimitScript;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+
+    public ReactiveRateLimitFilter(ReactiveStringRedisTemplate reactiveStringRedisTemplate, RedisScript<List<Long>> rateLimitScript,
+                                   RateLimitProperties properties, ObjectMapper objectMapper, AuthMetrics authMetrics) {
+        this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
+        this.rateLimitScript = rateLimitScript;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String endpoint = HttpMethod.POST.equals(request.getMethod())
+                ? RateLimitCheck.endpointOf(properties, request.getPath().value()) : null;
+        if (endpoint == null) {
+            return chain.filter(exchange);
+        }
+        return DataBufferUtils.join(request.getBody(), RateLimitCheck.MAX_BODY_BYTES)
+                .map(ReactiveRateLimitFilter::toBytes)
+                .defaultIfEmpty(new byte[0])
+                .map(Optional::of)
+                .onErrorResume(DataBufferLimitException.class, e -> Mono.just(Optional.empty()))
+                .flatMap(body -> body.isPresent()
+                        ? check(exchange, chain, endpoint, body.get())
+                        : reject(exchange, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large", "PAYLOAD_TOO_LARGE"));
+    }
+
+    private Mono<Void> check(ServerWebExchange exchange, WebFilterChain chain, String endpoint, byte[] body) {
+        ServerHttpRequest request = exchange.getRequest();
+        RateLimitCheck check = new RateLimitCheck(properties, endpoint, clientAddress(request), RateLimitCheck.emailOf(objectMapper, body));
+        Mono<List<Long>> result = check.isEmpty() ? Mono.empty()
+                : reactiveStringRedisTemplate.execute(rateLimitScript, check.keys(), Arrays.asList(check.args()))
+                .next()
+                .onErrorResume(e -> {
+                    log.warn("ReactiveRateLimitFilter : check : Rate limit not checked, letting request through - {}", e.getMessage());
+                    authMetrics.rateLimitUnavailable();
+                    return Mono.empty();
+                });
+
+        return result.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(checked -> {
+                    String dimension = check.rejectedDimension(checked.orElse(null));
+                    if (dimension == null) {
+                        return chain.filter(exchange.mutate().request(new CachedBodyRequest(request, body)).build());
+                    }
+                    authMetrics.rateLimited(endpoint, dimension);
+                    log.warn("ReactiveRateLimitFilter : check : {} limit reached at URI: {}", dimension, request.getPath());
+                    exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(RateLimitCheck.retryAfterSeconds(checked.get())));
+                    return reject(exchange, HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please retry later", "TOO_MANY_REQUESTS");
+                });
+    }
+
+    private static String clientAddress(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status, String message, String code) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResponse.error(message, code, exchange.getRequest().getPath().value()));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /** Replays the body that was read for the email lookup to the handler. */
+    private static class CachedBodyRequest extends ServerHttpRequestDecorator {
+
+        private final byte[] body;
+
+        CachedBodyRequest(ServerHttpRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.SwitchBoard.AuthService.Config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read/write split between the primary and the replicas in {@code app.datasource.replica.urls}; without
+ * replicas Boot's single pool is used as before. The primary pool is tuned through spring.datasource.hikari.*
+ * like Boot's, each replica gets its own pool tuned through app.datasource.replica.hikari.*.
+ * Schema update, sql.init and every write run outside read-only transactions, so they stay on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.urls")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@Slf4j
+public class ReadWriteDataSourceConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig primaryHikariConfig(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setPoolName("primary");
+        return config;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariConfig replicaHikariConfig(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setReadOnly(true);
+        // Start without a replica that is down; the lag check keeps it out of rotation until it is back
+        config.setInitializationFailTimeout(-1);
+        return config;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariConfig primaryHikariConfig, HikariConfig replicaHikariConfig,
+                                 ReplicaDataSourceProperties replicaProperties, DataSourceProperties properties,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = pool(primaryHikariConfig, meterRegistry);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = replicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            replicaHikariConfig.copyStateTo(config);
+            config.setJdbcUrl(urls.get(i));
+            config.setUsername(replicaProperties.getUsername() != null ? replicaProperties.getUsername() : properties.determineUsername());
+            config.setPassword(replicaProperties.getPassword() != null ? replicaProperties.getPassword() : properties.determinePassword());
+            config.setPoolName("replica-" + (i + 1));
+            replicas.put(config.getPoolName(), pool(config, meterRegistry));
+        }
+
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replicas, replicaProperties.getMaxLagMs(), meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        routingDataSource.checkReplicaLag();
+        log.info("ReadWriteDataSourceConfig : dataSource : Routing read-only transactions across {} replica(s), max lag {} ms",
+                replicas.size(), replicaProperties.getMaxLagMs());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:500}",
+            initialDelayString = "${app.datasource.replica.lag-check-interval-ms:500}")
+    public void checkReplicaLag() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicaLag();
+        }
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource pool(HikariConfig config, MeterRegistry meterRegistry) {
+        // Not beans, so Boot's pool metrics binder never sees them; hikaricp.* is tagged with the pool name
+        config.setMetricRegistry(meterRegistry);
+        HikariDataSource pool = new HikariDataSource(config);
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,105 @@
+package com.SwitchBoard.AuthService.Config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else, including work outside a transaction,
+ * to the primary. Replicas take turns; one whose replay lag (see {@link #checkReplicaLag()}) exceeds
+ * max-lag, or that cannot be reached, is skipped, and with none left reads go to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy, so the target is picked at the first statement,
+ * once the transaction's read-only flag is set.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    // Lag in ms; 0 for a promoted replica, NULL while it is not streaming from the primary
+    private static final String LAG_SQL = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagMs;
+    private final Map<String, Double> lagMs = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> inRotation = List.of();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxLagMs,
+                                      MeterRegistry meterRegistry) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagMs = maxLagMs;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        for (String replica : replicas.keySet()) {
+            lagMs.put(replica, Double.NaN);
+            Gauge.builder("auth.datasource.replica.lag", lagMs, lags -> lags.get(replica))
+                    .description("Replay lag of a read replica behind the primary, NaN while unknown")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || DataSourceRouting.isPrimaryForced()) {
+            return PRIMARY;
+        }
+        List<String> candidates = inRotation;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /** Measures each replica's lag and rebuilds the rotation from those within max-lag. */
+    public void checkReplicaLag() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            Double lag = measureLag(name, dataSource);
+            lagMs.put(name, lag == null ? Double.NaN : lag);
+            if (lag != null && lag <= maxLagMs) {
+                healthy.add(name);
+            }
+        });
+        if (!healthy.equals(inRotation)) {
+            log.info("ReadWriteRoutingDataSource : checkReplicaLag : Replicas in rotation - {}", healthy);
+        }
+        inRotation = List.copyOf(healthy);
+    }
+
+    private Double measureLag(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+            resultSet.next();
+            double lag = resultSet.getDouble(1);
+            return resultSet.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            log.warn("ReadWriteRoutingDataSource : measureLag : Replica {} unavailable - {}", name, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -4,11 +4,16 @@ package com.SwitchBoard.AuthService.Config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 @Configuration
 public class RedisConfig {
 
@@ -22,5 +27,38 @@ public class RedisConfig {
 
         return template;
     }
-}
 
+    /** Raw byte values for OTP state encoded with {@link com.SwitchBoard.AuthService.Util.OtpStateCodec}. */
+    @Bean
+    public RedisTemplate<String, byte[]> otpRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+
+        return template;
+    }
+
+    @Bean
+    public RedisScript<Long> otpIssueScript() {
+        return RedisScript.of(new ClassPathResource("scripts/otp-issue.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> otpVerifyScript() {
+        return RedisScript.of(new ClassPathResource("scripts/otp-verify.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> lockReleaseScript() {
+        return RedisScript.of(new ClassPathResource("scripts/lock-release.lua"), Long.class);
+    }
+
+    /** Replies with a two-element list, see scripts/rate-limit.lua. */
+    @Bean
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RedisScript<List<Long>> rateLimitScript() {
+        return (RedisScript) RedisScript.of(new ClassPathResource("scripts/rate-limit.lua"), List.class);
+    }
+}
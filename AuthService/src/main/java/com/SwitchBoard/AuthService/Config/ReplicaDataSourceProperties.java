@@ -0,0 +1,25 @@
+package com.SwitchBoard.AuthService.Config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas for {@link ReadWriteDataSourceConfig} ({@code app.datasource.replica.*}).
+ * Pool settings for the replicas go under {@code app.datasource.replica.hikari.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /** JDBC URLs, one pool per replica. */
+    private List<String> urls = new ArrayList<>();
+    /** Default to spring.datasource.username and password. */
+    private String username;
+    private String password;
+    /** Replicas further behind the primary than this are left out until they catch up. */
+    private long maxLagMs = 1000;
+    private long lagCheckIntervalMs = 500;
+}
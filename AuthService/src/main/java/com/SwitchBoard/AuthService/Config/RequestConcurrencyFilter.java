@@ -0,0 +1,76 @@
+package com.SwitchBoard.AuthService.Config;
+
+import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds in-flight requests when they run on virtual threads. Tomcat's worker pool used to be
+ * that bound; without it a burst queues directly on the Hikari pool, whose waiters are served
+ * out of order and time out after connection-timeout. Requests wait here in arrival order
+ * instead and get a 503 if no slot frees up within the queue timeout.
+ * A request thread only waits on Postgres connections and Redis replies. Kafka sends, whose metadata
+ * wait can block for max.block.ms inside a monitor, run on the OTP sender thread and the outbox relay,
+ * so permits are sized against the connection pools: a few requests per pooled connection keeps the
+ * Hikari wait short of its connection-timeout, and the rest of a burst waits here.
+ */
+@Component
+// After RateLimitFilter, so throttled requests do not wait for a slot
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class RequestConcurrencyFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final long queueTimeoutMs;
+
+    public RequestConcurrencyFilter(ObjectMapper objectMapper,
+                                    @Value("${app.virtual-threads.max-concurrent-requests:100}") int maxConcurrentRequests,
+                                    @Value("${app.virtual-threads.queue-timeout-ms:10000}") long queueTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.queueTimeoutMs = queueTimeoutMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.warn("RequestConcurrencyFilter : doFilterInternal : Request shed after waiting {} ms at URI: {}", queueTimeoutMs, request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error("Server is busy, please retry", "SERVICE_UNAVAILABLE", request.getRequestURI()));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -1,24 +1,62 @@
 package com.SwitchBoard.AuthService.Config;
 
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Account.USER_ROLE;
+import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import com.SwitchBoard.AuthService.Security.AccessTokenAuthenticationFilter;
+import com.SwitchBoard.AuthService.Security.AccessTokenVerifier;
+import com.SwitchBoard.AuthService.Service.AccountIdentityResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.io.IOException;
 
 @Configuration
+@Profile("!reactive")
+@RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final AccessTokenVerifier accessTokenVerifier;
+    private final AccountIdentityResolver accountIdentityResolver;
+    private final ObjectMapper objectMapper;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        // Bulk export and import of accounts are for admins only; they sit under the public account paths below
+        PathPatternRequestMatcher.Builder paths = PathPatternRequestMatcher.withDefaults();
+        RequestMatcher adminOnly = new OrRequestMatcher(
+                paths.matcher(HttpMethod.GET, "/api/v1/auth/account/export"),
+                paths.matcher(HttpMethod.POST, "/api/v1/auth/account/import"));
 
         http
                 .csrf(csrf -> csrf.disable())  // disable CSRF for APIs
+                .addFilterBefore(new AccessTokenAuthenticationFilter(adminOnly, accessTokenVerifier, accountIdentityResolver),
+                        AnonymousAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(adminOnly).access((authentication, context) -> new AuthorizationDecision(
+                                authentication.get().getPrincipal() instanceof AccountIdentity identity && identity.hasRole(USER_ROLE.ADMIN)))
                         // Permit all for auth endpoints and Swagger
                         .requestMatchers(
                                 "/api/v1/auth/**",
                                 "/api/v1/auth/account/**",
                                 "/.well-known/jwks.json",  // JWKS endpoint for JWT validation
+                                "/actuator/health/**",     // actuator only listens on management.server.port
+                                "/actuator/prometheus",
                                 "/v3/api-docs/**",
                                 "/v3/api-docs.yaml",
                                 "/swagger-ui/**",
@@ -26,9 +64,21 @@ public class SecurityConfig {
                         ).permitAll()
                         .anyRequest().authenticated()  // everything else requires auth
                 )
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint((request, response, e) ->
+                                reject(request, response, HttpStatus.UNAUTHORIZED, "A valid access token is required", "UNAUTHORIZED"))
+                        .accessDeniedHandler((request, response, e) ->
+                                reject(request, response, HttpStatus.FORBIDDEN, "Admin role required", "FORBIDDEN")))
                 .httpBasic(httpBasic -> httpBasic.disable())  // disable basic login popup
                 .formLogin(form -> form.disable());           // disable default login form
 
         return http.build();
     }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        String message, String code) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message, code, request.getRequestURI()));
+    }
 }
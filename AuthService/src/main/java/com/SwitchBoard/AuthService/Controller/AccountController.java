@@ -1,29 +1,42 @@
 package com.SwitchBoard.AuthService.Controller;
 
 
+import com.SwitchBoard.AuthService.DTO.Account.AccountPageResponseDto;
 import com.SwitchBoard.AuthService.DTO.Account.AccountRequestDto;
 import com.SwitchBoard.AuthService.DTO.Account.AccountResponseDto;
+import com.SwitchBoard.AuthService.DTO.Account.AccountUpdateResult;
 import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import com.SwitchBoard.AuthService.Exception.BadRequestException;
+import com.SwitchBoard.AuthService.Exception.PreconditionFailedException;
 import com.SwitchBoard.AuthService.Model.Account;
+import com.SwitchBoard.AuthService.Service.Account.AccountImportService;
 import com.SwitchBoard.AuthService.Service.Account.AccountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.UUID;
 
+// Blocking JPA and servlet streaming; the reactive profile leaves account endpoints to servlet instances
 @RestController
 @RequestMapping("/api/v1/auth/account")
+@Profile("!reactive")
 @Slf4j
 @RequiredArgsConstructor
 @Tag(name = "Account Management", description = "API endpoints for managing user accounts")
 public class AccountController {
     private final AccountService accountService;
+    private final AccountImportService accountImportService;
 
     @Operation(summary = "Create a new user account")
     @PostMapping("/create")
@@ -43,44 +56,90 @@ public class AccountController {
         try {
             AccountResponseDto user = accountService.getUser(id);
             log.info("AccountController : getUser : Successfully retrieved user - {}", id);
-            return ResponseEntity.ok(user);
+            return ResponseEntity.ok().eTag(String.valueOf(user.getVersion())).body(user);
         } catch (Exception e) {
             log.error("AccountController : getUser : Exception while retrieving user - {}", e.getMessage(), e);
             throw e;
         }
     }
 
-    @Operation(summary = "Get all users")
+    @Operation(summary = "Get all users", description = "Keyset-paginated; pass nextCursor from the previous page as cursor")
     @GetMapping("/getAll")
-    public ResponseEntity<List<AccountResponseDto>> getAllUsers() {
-        log.info("AccountController : getAllUsers : Fetching all users");
+    public ResponseEntity<AccountPageResponseDto> getAllUsers(@RequestParam(required = false) UUID cursor,
+                                                              @RequestParam(defaultValue = "50") int limit) {
+        log.info("AccountController : getAllUsers : Fetching users after cursor - {}", cursor);
         try {
-            List<AccountResponseDto> userDTOS = accountService.getAllUsers();
-            log.info("AccountController : getAllUsers : Successfully retrieved {} users", userDTOS.size());
-            return ResponseEntity.ok(userDTOS);
+            AccountPageResponseDto page = accountService.getUsersPage(cursor, limit);
+            log.info("AccountController : getAllUsers : Successfully retrieved {} users", page.getItems().size());
+            return ResponseEntity.ok(page);
         } catch (Exception e) {
-            log.error("AccountController : getAllUsers : Exception while retrieving all users - {}", e.getMessage(), e);
+            log.error("AccountController : getAllUsers : Exception while retrieving users - {}", e.getMessage(), e);
             throw e;
         }
     }
 
-    @Operation(summary = "Update user")
+    @Operation(summary = "Export all users", description = "Streams every account as newline-delimited JSON. Requires an admin access token")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        log.info("AccountController : exportUsers : Export requested");
+        // Written on the request thread straight to the socket, so no async timeout applies
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        accountService.exportUsers(response.getOutputStream());
+    }
+
+    @Operation(summary = "Import users",
+            description = "Creates an account per CSV row (header row of field names, email and name required) or NDJSON line; " +
+                    "streams one NDJSON result per row. Requires an admin access token")
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        AccountImportService.Format format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? AccountImportService.Format.NDJSON : AccountImportService.Format.CSV;
+        log.info("AccountController : importUsers : Import requested - {}", format);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try {
+            accountImportService.importAccounts(request.getInputStream(), format, response.getOutputStream());
+        } catch (BadRequestException e) {
+            // Rejected before any result was written; let the error body go out as JSON
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Update user",
+            description = "Send the ETag from get as If-Match to update only that version; 412 if the account changed since")
     @PatchMapping("/update/{id}")
-    public ResponseEntity<ApiResponse> updateUser(@PathVariable UUID id, @RequestBody AccountRequestDto updates) {
+    public ResponseEntity<ApiResponse> updateUser(@PathVariable UUID id, @RequestBody AccountRequestDto updates,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("AccountController : updateUser : Received request to update account - {}", id);
-        log.debug("AccountController : updateUser : Update details - {}", updates);
         try {
-            ApiResponse apiResponse = accountService.updateProfile(id, updates);
+            AccountUpdateResult result = accountService.updateProfile(id, updates, expectedVersion(ifMatch));
+            ApiResponse apiResponse = result.response();
             if (!apiResponse.isSuccess()) {
                 log.warn("AccountController : updateUser : Failed to update account - {}", id);
                 return new ResponseEntity<>(apiResponse, HttpStatus.BAD_REQUEST);
             }
             log.info("AccountController : updateUser : Successfully updated account - {}", id);
-            return ResponseEntity.ok(apiResponse);
+            return ResponseEntity.ok().eTag(String.valueOf(result.version())).body(apiResponse);
         } catch (Exception e) {
             log.error("AccountController : updateUser : Exception while updating account - {}", e.getMessage(), e);
             throw e;
         }
     }
+
+    // ETags are the quoted account version; "*" or no header updates whatever version is current
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not a tag this service issued
+            }
+        }
+        throw new PreconditionFailedException("If-Match " + ifMatch + " does not match the account");
+    }
 }
 
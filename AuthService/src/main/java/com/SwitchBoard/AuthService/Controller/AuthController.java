@@ -1,14 +1,15 @@
 package com.SwitchBoard.AuthService.Controller;
 
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
 import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
 import com.SwitchBoard.AuthService.DTO.Authentication.AuthRequest;
 import com.SwitchBoard.AuthService.DTO.Authentication.AuthResponse;
 import com.SwitchBoard.AuthService.DTO.Authentication.AuthValidateRequest;
 import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenRequest;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
 import com.SwitchBoard.AuthService.Exception.ResourceNotFoundException;
 import com.SwitchBoard.AuthService.Exception.UnauthorizedException;
-import com.SwitchBoard.AuthService.Model.Account;
-import com.SwitchBoard.AuthService.Model.RefreshToken;
+import com.SwitchBoard.AuthService.Service.AccountIdentityResolver;
 import com.SwitchBoard.AuthService.Service.OtpService;
 import com.SwitchBoard.AuthService.Service.RefreshTokenService;
 import com.SwitchBoard.AuthService.Util.JwtUtil;
@@ -20,11 +21,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/v1/auth")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Authentication", description = "Authentication API endpoints")
@@ -32,6 +35,7 @@ public class AuthController {
 
     private final OtpService otpService;
     private final RefreshTokenService refreshTokenService;
+    private final AccountIdentityResolver accountIdentityResolver;
     private final JwtUtil jwtUtil;
 
     @Value("${jwt.expiration}")
@@ -110,15 +114,13 @@ public class AuthController {
     public ResponseEntity<AuthResponse> refreshToken(@RequestBody RefreshTokenRequest request) throws Exception {
         log.info("AuthController : refreshToken : Request received to refresh token");
         
-        RefreshToken refreshToken = refreshTokenService.findByToken(request.getRefreshToken())
+        RefreshTokenGrant grant = refreshTokenService.consume(request.getRefreshToken())
                 .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
         
-        if (!refreshTokenService.isTokenValid(refreshToken)) {
-            log.warn("AuthController : refreshToken : Invalid or expired refresh token");
-            throw new UnauthorizedException("Refresh token expired or invalid");
-        }
-        
-        Account account = refreshToken.getAccount();
+        AccountIdentity account = accountIdentityResolver.findByEmail(grant.getEmail()).orElseThrow(() -> {
+            log.warn("AuthController : refreshToken : Account no longer exists - {}", grant.getAccountId());
+            return new UnauthorizedException("Invalid refresh token");
+        });
         
         // Generate new access token
         String newAccessToken = jwtUtil.generateToken(
@@ -129,11 +131,11 @@ public class AuthController {
         );
         
         // Create new refresh token
-        RefreshToken newRefreshToken = refreshTokenService.createRefreshToken(account);
+        String newRefreshToken = refreshTokenService.createRefreshToken(account);
         
         AuthResponse response = AuthResponse.builder()
                 .accessToken(newAccessToken)
-                .refreshToken(newRefreshToken.getToken())
+                .refreshToken(newRefreshToken)
                 .expiresIn(jwtExpiration)
                 .build();
         
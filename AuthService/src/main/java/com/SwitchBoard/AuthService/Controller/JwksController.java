@@ -1,79 +1,41 @@
 package com.SwitchBoard.AuthService.Controller;
 
 
+import com.SwitchBoard.AuthService.Security.JwkSetCache;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
-import java.nio.charset.StandardCharsets;
-import java.security.KeyFactory;
-import java.security.PublicKey;
-import java.security.interfaces.RSAPublicKey;
-import java.security.spec.X509EncodedKeySpec;
-import java.util.Base64;
-import java.util.Collections;
-import java.util.Map;
+import java.time.Duration;
 
 @RestController
 @Slf4j
+@RequiredArgsConstructor
 @Tag(name = "JWKS", description = "JSON Web Key Set endpoints for JWT validation")
 public class JwksController {
 
-    @Value("${jwt.public-key}")
-    private String publicKeyPath;
+    private final JwkSetCache jwkSetCache;
 
-    @Operation(summary = "Get JWKS for JWT token validation")
-    @GetMapping("/.well-known/jwks.json")
-    public Map<String, Object> getJwks() throws Exception {
-        log.info("JwksController : getJwks : Request received for JWKS");
-        try {
-            RSAPublicKey publicKey = (RSAPublicKey) loadPublicKey();
-
-            // Build JWKS format
-            String modulus = Base64.getUrlEncoder().withoutPadding()
-                    .encodeToString(publicKey.getModulus().toByteArray());
-            String exponent = Base64.getUrlEncoder().withoutPadding()
-                    .encodeToString(publicKey.getPublicExponent().toByteArray());
+    @Value("${jwt.jwks.max-age-seconds:300}")
+    private long maxAgeSeconds;
 
-            Map<String, Object> jwk = Map.of(
-                    "kty", "RSA",
-                    "use", "sig",
-                    "alg", "RS256",
-                    "kid", "auth-key-1",   // Key ID (for rotation later)
-                    "n", modulus,
-                    "e", exponent
-            );
-            
-            log.info("JwksController : getJwks : JWKS response generated successfully");
-            return Map.of("keys", Collections.singletonList(jwk));
-        } catch (Exception e) {
-            log.error("JwksController : getJwks : Error generating JWKS - {}", e.getMessage());
-            throw e;
-        }
-    }
-
-    private PublicKey loadPublicKey() throws Exception {
-        log.debug("JwksController : loadPublicKey : Loading public key from classpath - {}", publicKeyPath);
-        try {
-            ClassPathResource resource = new ClassPathResource(publicKeyPath);
-            String keyContent = new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
-            
-            String key = keyContent
-                    .replace("-----BEGIN PUBLIC KEY-----", "")
-                    .replace("-----END PUBLIC KEY-----", "")
-                    .replaceAll("\\s+", "");
-            byte[] decoded = Base64.getDecoder().decode(key);
-            X509EncodedKeySpec keySpec = new X509EncodedKeySpec(decoded);
-            PublicKey publicKey = KeyFactory.getInstance("RSA").generatePublic(keySpec);
-            log.debug("JwksController : loadPublicKey : Public key loaded successfully");
-            return publicKey;
-        } catch (Exception e) {
-            log.error("JwksController : loadPublicKey : Error loading public key - {}", e.getMessage());
-            throw e;
-        }
+    @Operation(summary = "Get JWKS for JWT token validation")
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getJwks() {
+        log.debug("JwksController : getJwks : Request received for JWKS");
+        JwkSetCache.Document document = jwkSetCache.getDocument();
+        // ResponseEntity ETag lets Spring answer If-None-Match with 304 and skip the body
+        return ResponseEntity.ok()
+                .eTag(document.getEtag())
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(document.getBody());
     }
 }
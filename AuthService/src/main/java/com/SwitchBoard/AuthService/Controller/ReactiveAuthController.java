@@ -0,0 +1,62 @@
+package com.SwitchBoard.AuthService.Controller;
+
+import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import com.SwitchBoard.AuthService.DTO.Authentication.AuthRequest;
+import com.SwitchBoard.AuthService.DTO.Authentication.AuthResponse;
+import com.SwitchBoard.AuthService.DTO.Authentication.AuthValidateRequest;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenRequest;
+import com.SwitchBoard.AuthService.Exception.UnauthorizedException;
+import com.SwitchBoard.AuthService.Service.ReactiveAccountIdentityResolver;
+import com.SwitchBoard.AuthService.Service.ReactiveOtpService;
+import com.SwitchBoard.AuthService.Service.ReactiveRefreshTokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/** WebFlux variant of {@link AuthController}, active with the {@code reactive} profile. */
+@RestController
+@RequestMapping("/api/v1/auth")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Authentication", description = "Authentication API endpoints")
+public class ReactiveAuthController {
+
+    private final ReactiveOtpService reactiveOtpService;
+    private final ReactiveRefreshTokenService reactiveRefreshTokenService;
+    private final ReactiveAccountIdentityResolver reactiveAccountIdentityResolver;
+
+    @Operation(summary = "Send OTP to email", description = "Sends a one-time password to the provided email address")
+    @PostMapping("/send-otp")
+    public Mono<ResponseEntity<ApiResponse>> sendOtp(@RequestBody AuthRequest authRequest) {
+        log.info("ReactiveAuthController : sendOtp : Request received for email - {}", authRequest.getEmail());
+        return reactiveOtpService.generateOtp(authRequest.getEmail()).map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Verify OTP", description = "Validates the OTP sent to the email address and returns authentication token")
+    @PostMapping("/verify-otp")
+    public Mono<ResponseEntity<AuthResponse>> verifyOtp(@RequestBody AuthValidateRequest authValidateRequest) {
+        log.info("ReactiveAuthController : verifyOtp : Request received for email - {}", authValidateRequest.getEmail());
+        return reactiveOtpService.validateOtp(authValidateRequest.getEmail(), authValidateRequest.getOtp()).map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Refresh access token", description = "Uses refresh token to generate a new access token")
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<AuthResponse>> refreshToken(@RequestBody RefreshTokenRequest request) {
+        log.info("ReactiveAuthController : refreshToken : Request received to refresh token");
+        return reactiveRefreshTokenService.consume(request.getRefreshToken())
+                .switchIfEmpty(Mono.error(() -> new UnauthorizedException("Invalid refresh token")))
+                .flatMap(grant -> reactiveAccountIdentityResolver.findByEmail(grant.getEmail())
+                        .switchIfEmpty(Mono.defer(() -> {
+                            log.warn("ReactiveAuthController : refreshToken : Account no longer exists - {}", grant.getAccountId());
+                            return Mono.error(new UnauthorizedException("Invalid refresh token"));
+                        })))
+                .flatMap(reactiveOtpService::issueTokens)
+                .map(ResponseEntity::ok);
+    }
+}
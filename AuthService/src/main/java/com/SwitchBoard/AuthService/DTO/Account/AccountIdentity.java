@@ -0,0 +1,36 @@
+package com.SwitchBoard.AuthService.DTO.Account;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Narrow, immutable view of an account carrying only what the login flow needs.
+ * Instances are cached and shared, so the roles are copied defensively.
+ */
+@Getter
+@ToString
+public class AccountIdentity {
+
+    private final UUID id;
+    private final String email;
+    private final String name;
+    private final Set<USER_ROLE> userRole;
+
+    public AccountIdentity(UUID id, String email, String name, Collection<USER_ROLE> userRole) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.userRole = userRole == null || userRole.isEmpty()
+                ? Collections.emptySet() : Collections.unmodifiableSet(EnumSet.copyOf(userRole));
+    }
+
+    public boolean hasRole(USER_ROLE role) {
+        return userRole.contains(role);
+    }
+}
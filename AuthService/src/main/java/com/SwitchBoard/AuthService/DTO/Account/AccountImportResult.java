@@ -0,0 +1,35 @@
+package com.SwitchBoard.AuthService.DTO.Account;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/** Outcome of one row of a bulk account import; {@code line} is the row's line number in the uploaded file. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AccountImportResult {
+
+    public enum Status {
+        CREATED,
+        /** An account with this email existed before the import. */
+        ALREADY_EXISTS,
+        /** The email appeared on an earlier line of the same file. */
+        DUPLICATE_IN_FILE,
+        INVALID,
+        /** The row's chunk could not be written; nothing in it was imported. */
+        FAILED
+    }
+
+    private int line;
+    private String email;
+    private Status status;
+    private UUID id;
+    private String message;
+}
@@ -0,0 +1,19 @@
+package com.SwitchBoard.AuthService.DTO.Account;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountPageResponseDto {
+    private List<AccountResponseDto> items;
+    /** Pass as {@code cursor} to fetch the next page; {@code null} on the last page. */
+    private UUID nextCursor;
+}
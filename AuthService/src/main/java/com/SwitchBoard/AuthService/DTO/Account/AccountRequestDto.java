@@ -6,7 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.Date;
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Data
@@ -30,5 +30,5 @@ public class AccountRequestDto {
     private int totalRewardPoints;
     private int taskAssignedCount;
     private int taskCompletedCount;
-    private List<USER_ROLE> userRole ;
+    private Set<USER_ROLE> userRole ;
 }
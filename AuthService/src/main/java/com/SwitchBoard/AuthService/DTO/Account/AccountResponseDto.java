@@ -10,7 +10,7 @@ import lombok.NoArgsConstructor;
 
 import java.util.Collections;
 import java.util.Date;
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Data
@@ -37,6 +37,8 @@ public class AccountResponseDto {
     private int taskCompletedCount;
 
 
-    private List<USER_ROLE> userRole ;
+    private Set<USER_ROLE> userRole ;
+    /** Current version of the account, to send back as If-Match on update. */
+    private long version;
 }
 
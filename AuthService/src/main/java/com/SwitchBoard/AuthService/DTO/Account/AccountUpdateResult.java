@@ -0,0 +1,7 @@
+package com.SwitchBoard.AuthService.DTO.Account;
+
+import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+
+/** The response body of a profile update, plus the account's new version, which goes out only as the ETag. */
+public record AccountUpdateResult(ApiResponse response, long version) {
+}
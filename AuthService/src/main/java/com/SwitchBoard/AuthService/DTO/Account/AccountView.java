@@ -0,0 +1,28 @@
+package com.SwitchBoard.AuthService.DTO.Account;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Read-only projection of the account columns exposed by the listing and export endpoints.
+ * Rows come back as tuples, so nothing is added to the persistence context.
+ */
+public interface AccountView {
+    UUID getId();
+    String getName();
+    String getEmail();
+    String getMobile();
+    String getLinkedinUrl();
+    String getGithubUrl();
+    String getLeetcodeUrl();
+    String getCvPath();
+    Date getDeadline();
+    String getAimRole();
+    String getCurrentRole();
+    int getTotalRewardPoints();
+    int getTaskAssignedCount();
+    int getTaskCompletedCount();
+    Set<USER_ROLE> getUserRole();
+    long getVersion();
+}
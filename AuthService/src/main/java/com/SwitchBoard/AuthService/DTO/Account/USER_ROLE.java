@@ -1,7 +1,18 @@
 package com.SwitchBoard.AuthService.DTO.Account;
 
 public enum USER_ROLE {
-    ADMIN,
-    USER,
-    SUPER_ADMIN
+    ADMIN(1),
+    USER(1 << 1),
+    SUPER_ADMIN(1 << 2);
+
+    private final int bit;
+
+    USER_ROLE(int bit) {
+        this.bit = bit;
+    }
+
+    /** Bit of this role in account.user_roles. Stored data depends on it, so never reuse or change a bit. */
+    public int bit() {
+        return bit;
+    }
 }
@@ -0,0 +1,22 @@
+package com.SwitchBoard.AuthService.DTO.Authentication;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * The account a consumed refresh token was issued to.
+ */
+@Getter
+@ToString
+public class RefreshTokenGrant {
+
+    private final UUID accountId;
+    private final String email;
+
+    public RefreshTokenGrant(UUID accountId, String email) {
+        this.accountId = accountId;
+        this.email = email;
+    }
+}
@@ -3,6 +3,7 @@ package com.SwitchBoard.AuthService.Exception;
 import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@Profile("!reactive")
 @Slf4j
 public class GlobalExceptionHandler {
 
@@ -27,6 +29,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponse> handleConflict(ConflictException ex, HttpServletRequest request) {
+        log.error("GlobalExceptionHandler : handleConflict : Conflict - {} at URI: {}", ex.getMessage(), request.getRequestURI());
+        ApiResponse response = ApiResponse.error(ex.getMessage(), "CONFLICT", request.getRequestURI());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest request) {
+        log.error("GlobalExceptionHandler : handlePreconditionFailed : Precondition failed - {} at URI: {}", ex.getMessage(), request.getRequestURI());
+        ApiResponse response = ApiResponse.error(ex.getMessage(), "PRECONDITION_FAILED", request.getRequestURI());
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<ApiResponse> handleUnauthorized(UnauthorizedException ex, HttpServletRequest request) {
         log.error("GlobalExceptionHandler : handleUnauthorized : Unauthorized access - {} at URI: {}", ex.getMessage(), request.getRequestURI());
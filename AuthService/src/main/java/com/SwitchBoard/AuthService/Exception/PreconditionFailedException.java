@@ -0,0 +1,7 @@
+package com.SwitchBoard.AuthService.Exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
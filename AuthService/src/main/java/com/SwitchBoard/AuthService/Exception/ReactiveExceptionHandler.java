@@ -0,0 +1,60 @@
+package com.SwitchBoard.AuthService.Exception;
+
+import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+/** {@link GlobalExceptionHandler} for the {@code reactive} profile; same status codes and error bodies. */
+@RestControllerAdvice
+@Profile("reactive")
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ApiResponse> handleResourceNotFound(ResourceNotFoundException ex, ServerHttpRequest request) {
+        log.error("ReactiveExceptionHandler : handleResourceNotFound : Resource not found - {} at URI: {}", ex.getMessage(), request.getPath());
+        return error(ex.getMessage(), "RESOURCE_NOT_FOUND", request, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ApiResponse> handleBadRequest(BadRequestException ex, ServerHttpRequest request) {
+        log.error("ReactiveExceptionHandler : handleBadRequest : Bad request - {} at URI: {}", ex.getMessage(), request.getPath());
+        return error(ex.getMessage(), "BAD_REQUEST", request, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ApiResponse> handleUnauthorized(UnauthorizedException ex, ServerHttpRequest request) {
+        log.error("ReactiveExceptionHandler : handleUnauthorized : Unauthorized access - {} at URI: {}", ex.getMessage(), request.getPath());
+        return error(ex.getMessage(), "UNAUTHORIZED", request, HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler(UnexpectedException.class)
+    public ResponseEntity<ApiResponse> handleUnexpected(UnexpectedException ex, ServerHttpRequest request) {
+        log.error("ReactiveExceptionHandler : handleUnexpected : Unexpected error - {} at URI: {}", ex.getMessage(), request.getPath());
+        return error(ex.getMessage(), "UNEXPECTED_ERROR", request, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    // WebFlux reports unmapped paths, wrong methods and media types this way; keep their status instead of a 500
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiResponse> handleResponseStatus(ResponseStatusException ex, ServerHttpRequest request) {
+        log.warn("ReactiveExceptionHandler : handleResponseStatus : {} at URI: {}", ex.getMessage(), request.getPath());
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        return error(ex.getReason() != null ? ex.getReason() : status.getReasonPhrase(), status.name(), request, status);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResponse> handleGlobalException(Exception ex, ServerHttpRequest request) {
+        log.error("ReactiveExceptionHandler : handleGlobalException : Internal server error - {} at URI: {}", ex.getMessage(), request.getPath(), ex);
+        return error("Internal Server Error: " + ex.getMessage(), "INTERNAL_SERVER_ERROR", request, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private static ResponseEntity<ApiResponse> error(String message, String errorCode, ServerHttpRequest request, HttpStatus status) {
+        return new ResponseEntity<>(ApiResponse.error(message, errorCode, request.getPath().value()), status);
+    }
+}
@@ -1,55 +1,86 @@
 package com.SwitchBoard.AuthService.Kafka.Config;
 
+import com.SwitchBoard.AuthService.Kafka.Serialization.AvroEventSerializer;
+import com.SwitchBoard.AuthService.Kafka.Serialization.SchemaSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.core.RoutingKafkaTemplate;
 import org.springframework.kafka.support.serializer.JsonSerializer;
-import switchboard.schemas.OTPNotificationEvent;
-import switchboard.schemas.OnboardingEvent;
-import switchboard.schemas.UserCreatedEvent;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 @Configuration
+@EnableConfigurationProperties(KafkaProducerProperties.class)
+@Slf4j
 public class KafkaProducerConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
-    // ----------------- OTPNotificationEvent Producer -----------------
+    /**
+     * One producer (one connection pool, one record accumulator) shared by every event type.
+     * Its client metrics (request latency, record errors, buffer waits) are bound as {@code kafka.producer.*}.
+     */
     @Bean
-    public ProducerFactory<String, OTPNotificationEvent> otpProducerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        config.put(ProducerConfig.ACKS_CONFIG, "all");
-        return new DefaultKafkaProducerFactory<>(config);
+    public ProducerFactory<Object, Object> eventProducerFactory(KafkaProducerProperties properties, SchemaSource schemaSource,
+                                                                MeterRegistry meterRegistry) {
+        Map<String, Object> config = tunedProducerConfig(bootstrapServers, properties);
+        DefaultKafkaProducerFactory<Object, Object> factory;
+        if (properties.getValueFormat() == KafkaProducerProperties.ValueFormat.AVRO) {
+            log.info("KafkaProducerConfig : eventProducerFactory : Event values are Avro single-object encoded");
+            factory = new DefaultKafkaProducerFactory<>(config, null, new AvroEventSerializer(schemaSource));
+        } else {
+            factory = new DefaultKafkaProducerFactory<>(config);
+        }
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
+    /** Routes each topic to the shared producer, or to a derived one when the topic has overrides. */
     @Bean
-    public KafkaTemplate<String, OTPNotificationEvent> otpKafkaTemplate() {
-        return new KafkaTemplate<>(otpProducerFactory());
+    public RoutingKafkaTemplate eventKafkaTemplate(ProducerFactory<Object, Object> eventProducerFactory,
+                                                   KafkaProducerProperties properties) {
+        Map<Pattern, ProducerFactory<Object, Object>> routes = new LinkedHashMap<>();
+        properties.getTopics().forEach((topic, settings) -> {
+            Map<String, Object> overrides = new HashMap<>();
+            if (settings.getCompressionType() != null) overrides.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, settings.getCompressionType());
+            if (settings.getLingerMs() != null) overrides.put(ProducerConfig.LINGER_MS_CONFIG, settings.getLingerMs());
+            if (settings.getBatchSize() != null) overrides.put(ProducerConfig.BATCH_SIZE_CONFIG, settings.getBatchSize());
+            if (!overrides.isEmpty()) {
+                log.info("KafkaProducerConfig : eventKafkaTemplate : Dedicated producer for topic {} - {}", topic, overrides);
+                routes.put(Pattern.compile(Pattern.quote(topic)), eventProducerFactory.copyWithConfigurationOverride(overrides));
+            }
+        });
+        routes.put(Pattern.compile(".+"), eventProducerFactory);
+        return new RoutingKafkaTemplate(routes);
     }
 
-    @Bean
-    public ProducerFactory<String, OnboardingEvent> onboardingEventProducerFactory() {
+    public static Map<String, Object> tunedProducerConfig(String bootstrapServers, KafkaProducerProperties properties) {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        config.put(ProducerConfig.ACKS_CONFIG, "all");
-        return new DefaultKafkaProducerFactory<>(config);
-    }
-
-    @Bean
-    public KafkaTemplate<String, OnboardingEvent> onboardingEventKafkaTemplate() {
-        return new KafkaTemplate<>(onboardingEventProducerFactory());
+        config.put(ProducerConfig.ACKS_CONFIG, properties.getAcks());
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, properties.isEnableIdempotence());
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, properties.getMaxInFlightRequestsPerConnection());
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, properties.getCompressionType());
+        config.put(ProducerConfig.LINGER_MS_CONFIG, properties.getLingerMs());
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, properties.getBatchSize());
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, properties.getMaxBlockMs());
+        config.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, properties.getRequestTimeoutMs());
+        config.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, properties.getDeliveryTimeoutMs());
+        return config;
     }
 }
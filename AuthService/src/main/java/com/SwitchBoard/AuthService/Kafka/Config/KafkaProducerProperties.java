@@ -0,0 +1,46 @@
+package com.SwitchBoard.AuthService.Kafka.Config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for the shared event producer ({@code app.kafka.producer.*}).
+ * Entries under {@code topics} override the defaults for one topic; each overridden topic
+ * gets its own producer, so overrides should be reserved for topics that really need them.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.kafka.producer")
+public class KafkaProducerProperties {
+
+    private String acks = "all";
+    private boolean enableIdempotence = true;
+    /** none, gzip, snappy, lz4 or zstd. */
+    private String compressionType = "lz4";
+    private int lingerMs = 10;
+    private int batchSize = 65536;
+    /** Upper bound on how long send() may block on metadata or a full buffer. */
+    private long maxBlockMs = 5000;
+    private int requestTimeoutMs = 15000;
+    /** Must be at least linger-ms + request-timeout-ms. */
+    private int deliveryTimeoutMs = 30000;
+    private int maxInFlightRequestsPerConnection = 5;
+    /** Wire format of event values; consumers must be switched before moving a topic to AVRO. */
+    private ValueFormat valueFormat = ValueFormat.JSON;
+
+    private Map<String, TopicSettings> topics = new LinkedHashMap<>();
+
+    public enum ValueFormat {
+        JSON,
+        AVRO
+    }
+
+    @Data
+    public static class TopicSettings {
+        private String compressionType;
+        private Integer lingerMs;
+        private Integer batchSize;
+    }
+}
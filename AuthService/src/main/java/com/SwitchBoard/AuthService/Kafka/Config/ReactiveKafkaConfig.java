@@ -0,0 +1,67 @@
+package com.SwitchBoard.AuthService.Kafka.Config;
+
+import com.SwitchBoard.AuthService.Kafka.Serialization.AvroEventSerializer;
+import com.SwitchBoard.AuthService.Kafka.Serialization.SchemaSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Reactive sender for the {@code reactive} profile, tuned like the shared event producer. */
+@Configuration
+@Profile("reactive")
+public class ReactiveKafkaConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Bean(destroyMethod = "close")
+    public KafkaSender<String, Object> reactiveEventSender(KafkaProducerProperties properties, SchemaSource schemaSource,
+                                                         MeterRegistry meterRegistry) {
+        Serializer<Object> valueSerializer = properties.getValueFormat() == KafkaProducerProperties.ValueFormat.AVRO
+                ? new AvroEventSerializer(schemaSource)
+                : new JsonSerializer<>();
+        SenderOptions<String, Object> options = SenderOptions.<String, Object>create(
+                        KafkaProducerConfig.tunedProducerConfig(bootstrapServers, properties))
+                .withKeySerializer(new StringSerializer())
+                .withValueSerializer(valueSerializer)
+                .producerListener(clientMetrics(meterRegistry));
+        return KafkaSender.create(options);
+    }
+
+    /**
+     * Binds the sender's client metrics with the tag keys spring-kafka uses for the outbox producer.
+     * reactor-kafka's own listener adds a reactor_kafka_id tag, and Prometheus drops whichever of two
+     * differently tagged {@code kafka.producer.*} meters registers second.
+     */
+    private static SenderOptions.ProducerListener clientMetrics(MeterRegistry meterRegistry) {
+        Map<String, KafkaClientMetrics> bound = new ConcurrentHashMap<>();
+        return new SenderOptions.ProducerListener() {
+            @Override
+            public void producerAdded(String id, Producer<?, ?> producer) {
+                KafkaClientMetrics metrics = new KafkaClientMetrics(producer, List.of(Tag.of("spring.id", "reactiveEventSender." + id)));
+                metrics.bindTo(meterRegistry);
+                bound.put(id, metrics);
+            }
+
+            @Override
+            public void producerRemoved(String id, Producer<?, ?> producer) {
+                KafkaClientMetrics metrics = bound.remove(id);
+                if (metrics != null) metrics.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.SwitchBoard.AuthService.Kafka.Serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.reflect.ReflectDatumWriter;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes events with Avro single-object encoding: the {@code C3 01} marker, the schema's
+ * 8-byte CRC-64-AVRO fingerprint (little endian), then the binary datum. Consumers resolve the
+ * writer schema from the fingerprint. Schema lookup and writer construction happen once per
+ * class. Buffers and encoders come from a small shared pool rather than per thread, since sends
+ * also run on virtual threads, which are never reused; the pool allocates when it runs empty.
+ */
+public class AvroEventSerializer implements Serializer<Object> {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private static final int POOL_SIZE = 16;
+
+    private final SchemaSource schemaSource;
+    private final Map<Class<?>, EventWriter> writers = new ConcurrentHashMap<>();
+    private final BlockingQueue<Encoding> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    public AvroEventSerializer(SchemaSource schemaSource) {
+        this.schemaSource = schemaSource;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null) {
+            return null;
+        }
+        EventWriter writer = writers.computeIfAbsent(data.getClass(), this::createWriter);
+        Encoding encoding = pool.poll();
+        if (encoding == null) {
+            encoding = new Encoding();
+        }
+        try {
+            encoding.buffer.reset();
+            encoding.buffer.write(writer.header);
+            writer.datumWriter.write(data, encoding.encoder);
+            encoding.encoder.flush();
+            return encoding.buffer.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not Avro-encode " + data.getClass().getName() + " for topic " + topic, e);
+        } finally {
+            pool.offer(encoding);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventWriter createWriter(Class<?> type) {
+        Schema schema = schemaSource.schemaFor(type);
+        DatumWriter<Object> datumWriter = SpecificRecord.class.isAssignableFrom(type)
+                ? new SpecificDatumWriter<>(schema)
+                : new ReflectDatumWriter<>(schema, ReflectData.AllowNull.get());
+        return new EventWriter(datumWriter, singleObjectHeader(schema));
+    }
+
+    private static byte[] singleObjectHeader(Schema schema) {
+        long fingerprint = SchemaNormalization.parsingFingerprint64(schema);
+        byte[] header = new byte[10];
+        header[0] = (byte) 0xC3;
+        header[1] = (byte) 0x01;
+        for (int i = 0; i < 8; i++) {
+            header[2 + i] = (byte) (fingerprint >>> (8 * i));
+        }
+        return header;
+    }
+
+    private record EventWriter(DatumWriter<Object> datumWriter, byte[] header) {
+    }
+
+    private static final class Encoding {
+
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        final BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(buffer, null);
+    }
+}
@@ -0,0 +1,53 @@
+package com.SwitchBoard.AuthService.Kafka.Serialization;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Local stand-in for a schema registry: {@code .avsc} files are loaded once at startup and
+ * matched to event classes by the schema's full name.
+ */
+@Component
+@ConditionalOnProperty(name = "app.kafka.avro.schema-source", havingValue = "file")
+@Slf4j
+public class FileSchemaSource implements SchemaSource {
+
+    @Value("${app.kafka.avro.schema-location:classpath*:avro/*.avsc}")
+    private String schemaLocation;
+
+    private final Map<String, Schema> schemasByName = new HashMap<>();
+
+    @PostConstruct
+    void load() throws IOException {
+        // One parser for all files, so a schema may reference named types defined in another file
+        Schema.Parser parser = new Schema.Parser();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(schemaLocation)) {
+            try (InputStream inputStream = resource.getInputStream()) {
+                Schema schema = parser.parse(inputStream);
+                schemasByName.put(schema.getFullName(), schema);
+                log.info("FileSchemaSource : load : Loaded schema {} from {}", schema.getFullName(), resource.getFilename());
+            }
+        }
+    }
+
+    @Override
+    public Schema schemaFor(Class<?> type) {
+        Schema schema = schemasByName.get(type.getName());
+        if (schema == null) {
+            throw new SerializationException("No Avro schema named " + type.getName() + " under " + schemaLocation);
+        }
+        return schema;
+    }
+}
@@ -0,0 +1,25 @@
+package com.SwitchBoard.AuthService.Kafka.Serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Uses the schema compiled into generated Avro classes, or derives one from the class's fields
+ * for plain objects. Derived fields are nullable, matching what the JSON path accepted.
+ */
+@Component
+@ConditionalOnProperty(name = "app.kafka.avro.schema-source", havingValue = "reflect", matchIfMissing = true)
+public class ReflectSchemaSource implements SchemaSource {
+
+    @Override
+    public Schema schemaFor(Class<?> type) {
+        if (SpecificRecord.class.isAssignableFrom(type)) {
+            return SpecificData.get().getSchema(type);
+        }
+        return ReflectData.AllowNull.get().getSchema(type);
+    }
+}
@@ -0,0 +1,13 @@
+package com.SwitchBoard.AuthService.Kafka.Serialization;
+
+import org.apache.avro.Schema;
+
+/**
+ * Supplies the Avro writer schema for an event class.
+ * Selected with {@code app.kafka.avro.schema-source} ({@code reflect} or {@code file}).
+ */
+public interface SchemaSource {
+
+    /** The schema to encode instances of {@code type} with; looked up once per class. */
+    Schema schemaFor(Class<?> type);
+}
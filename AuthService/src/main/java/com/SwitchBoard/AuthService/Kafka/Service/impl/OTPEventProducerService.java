@@ -1,41 +1,88 @@
 package com.SwitchBoard.AuthService.Kafka.Service.impl;
 
+import com.SwitchBoard.AuthService.Metrics.AuthMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.RoutingKafkaTemplate;
 import org.springframework.stereotype.Service;
 import switchboard.schemas.OTPNotificationEvent;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends OTP notifications straight to Kafka rather than through the outbox, so the plaintext OTP is never
+ * written to Postgres. Send-otp writes nothing transactional an event could be lost against: if the send
+ * fails the user requests a new OTP once the cooldown has passed.
+ * The send runs on a background thread behind a bounded queue: while Kafka metadata is unavailable the producer
+ * blocks for up to max-block-ms, and that wait must not hold a request thread. When the queue is full the
+ * notification is dropped like a failed send.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OTPEventProducerService {
 
-    private final KafkaTemplate<String, OTPNotificationEvent> kafkaTemplate;
+    private final RoutingKafkaTemplate eventKafkaTemplate;
+    private final AuthMetrics authMetrics;
 
     @Value("${app.topic.otp-notification}")
     private String topic;
 
+    @Value("${app.otp-notification.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "otp-notification");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
     public void publishOTPNotification(String emailID, String otp) {
         log.info("OTPEventProducerService : publishOTPNotification : Publishing OTP for email - {}", emailID);
 
+        long start = System.nanoTime();
         try {
-            OTPNotificationEvent event = new OTPNotificationEvent(emailID, otp);
-            log.debug("OTPEventProducerService : publishOTPNotification : Created OTPNotificationEvent: {}", event);
+            executor.execute(() -> send(emailID, otp, start));
+        } catch (RejectedExecutionException e) {
+            authMetrics.kafkaSend(topic, start, false);
+            log.warn("OTPEventProducerService : publishOTPNotification : Notification queue full, dropping OTP for email - {}", emailID);
+        }
+    }
 
-            kafkaTemplate.send(topic, event)
+    private void send(String emailID, String otp, long start) {
+        try {
+            OTPNotificationEvent event = new OTPNotificationEvent(emailID, otp);
+            eventKafkaTemplate.send(topic, emailID, event)
                     .whenComplete((result, ex) -> {
+                        authMetrics.kafkaSend(topic, start, ex == null);
                         if (ex == null) {
-                            log.info("OTPEventProducerService : publishOTPNotification : Successfully published OTPNotificationEvent to {} with offset {}",
+                            log.debug("OTPEventProducerService : send : Published OTPNotificationEvent to {} with offset {}",
                                     topic, result.getRecordMetadata().offset());
                         } else {
-                            log.error("OTPEventProducerService : publishOTPNotification : Failed to publish OTPNotificationEvent: {}", ex.getMessage(), ex);
+                            log.error("OTPEventProducerService : send : Failed to publish OTPNotificationEvent: {}", ex.getMessage(), ex);
                         }
                     });
         } catch (Exception e) {
-            log.error("OTPEventProducerService : publishOTPNotification : Error creating or publishing OTPNotificationEvent: {}", e.getMessage(), e);
-            throw e;
+            authMetrics.kafkaSend(topic, start, false);
+            log.error("OTPEventProducerService : send : Error creating or publishing OTPNotificationEvent: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
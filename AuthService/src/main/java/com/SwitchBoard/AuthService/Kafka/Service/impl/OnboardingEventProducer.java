@@ -1,18 +1,20 @@
 package com.SwitchBoard.AuthService.Kafka.Service.impl;
 
+import com.SwitchBoard.AuthService.Model.OutboxEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import switchboard.schemas.OTPNotificationEvent;
 import switchboard.schemas.OnboardingEvent;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OnboardingEventProducer {
-    private final KafkaTemplate<String, OnboardingEvent> kafkaTemplate;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     @Value("${app.topic.onboarding-notification}")
     private String topic;
@@ -22,19 +24,26 @@ public class OnboardingEventProducer {
 
         try {
             OnboardingEvent event= new OnboardingEvent(emailID, fullName);
-            log.debug("OnboardingEventProducer : publishOnboardingNotification : Created OnboardingEvent: {}", event);
-            kafkaTemplate.send(topic, event)
-                    .whenComplete((result, ex) -> {
-                        if (ex == null) {
-                            log.info("OnboardingEventProducer : publishOnboardingNotification : Successfully published OnboardingEvent to {} with offset {}",
-                                    topic, result.getRecordMetadata().offset());
-                        } else {
-                            log.error("OnboardingEventProducer : publishOnboardingNotification : Failed to publish OnboardingEvent: {}", ex.getMessage(), ex);
-                        }
-                    });
+            outboxEventPublisher.enqueue(OutboxEventType.ONBOARDING, topic, emailID, event);
+            log.info("OnboardingEventProducer : publishOnboardingNotification : Queued OnboardingEvent for {}", topic);
         } catch (Exception e) {
             log.error("OnboardingEventProducer : publishOnboardingNotification : Error creating or publishing OnboardingEvent: {}", e.getMessage(), e);
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    /** Queues one event per email with a single outbox insert; {@code namesByEmail} keeps the import's order. */
+    public void publishOnboardingNotifications(Map<String, String> namesByEmail) {
+        log.info("OnboardingEventProducer : publishOnboardingNotifications : Publishing {} Onboarding notifications", namesByEmail.size());
+
+        try {
+            Map<String, OnboardingEvent> events = new LinkedHashMap<>();
+            namesByEmail.forEach((emailID, fullName) -> events.put(emailID, new OnboardingEvent(emailID, fullName)));
+            outboxEventPublisher.enqueueAll(OutboxEventType.ONBOARDING, topic, events);
+            log.info("OnboardingEventProducer : publishOnboardingNotifications : Queued {} OnboardingEvents for {}", events.size(), topic);
+        } catch (Exception e) {
+            log.error("OnboardingEventProducer : publishOnboardingNotifications : Error creating or publishing OnboardingEvents: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.SwitchBoard.AuthService.Kafka.Service.impl;
+
+import com.SwitchBoard.AuthService.Model.OutboxEvent;
+import com.SwitchBoard.AuthService.Model.OutboxEventType;
+import com.SwitchBoard.AuthService.Repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Writes events to the outbox table; {@link OutboxRelayService} delivers them to Kafka.
+ * Joins the caller's transaction, so an event exists if and only if the change it describes was committed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventPublisher {
+
+    // One statement per batch; WITH ORDINALITY keeps the ids, and so the relay order, in the caller's order
+    private static final String ENQUEUE_ALL_SQL = "INSERT INTO outbox_event (topic, message_key, event_type, payload, created_at) " +
+            "SELECT ?, e.message_key, ?, e.payload, ? " +
+            "FROM unnest(?::varchar[], ?::bytea[]) WITH ORDINALITY AS e(message_key, payload, n) ORDER BY e.n";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void enqueue(OutboxEventType eventType, String topic, String key, Object event) {
+        if (!eventType.getEventClass().isInstance(event)) {
+            throw new IllegalArgumentException("Event of type " + event.getClass().getName() + " does not match " + eventType);
+        }
+        try {
+            OutboxEvent outboxEvent = outboxEventRepository.save(OutboxEvent.builder()
+                    .eventType(eventType)
+                    .topic(topic)
+                    .messageKey(key)
+                    .payload(objectMapper.writeValueAsBytes(event))
+                    .build());
+            log.debug("OutboxEventPublisher : enqueue : Queued {} event {} for topic {}", eventType, outboxEvent.getId(), topic);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode " + eventType + " event", e);
+        }
+    }
+
+    /** Queues one event per key with a single insert; for bulk writes that would otherwise enqueue row by row. */
+    @Transactional
+    public void enqueueAll(OutboxEventType eventType, String topic, Map<String, ?> eventsByKey) {
+        if (eventsByKey.isEmpty()) {
+            return;
+        }
+        String[] keys = new String[eventsByKey.size()];
+        byte[][] payloads = new byte[eventsByKey.size()][];
+        int i = 0;
+        for (Map.Entry<String, ?> entry : eventsByKey.entrySet()) {
+            if (!eventType.getEventClass().isInstance(entry.getValue())) {
+                throw new IllegalArgumentException("Event of type " + entry.getValue().getClass().getName() + " does not match " + eventType);
+            }
+            try {
+                keys[i] = entry.getKey();
+                payloads[i++] = objectMapper.writeValueAsBytes(entry.getValue());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not encode " + eventType + " event", e);
+            }
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ENQUEUE_ALL_SQL);
+            statement.setString(1, topic);
+            statement.setString(2, eventType.name());
+            statement.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+            statement.setArray(4, connection.createArrayOf("varchar", keys));
+            statement.setArray(5, connection.createArrayOf("bytea", payloads));
+            return statement;
+        });
+        log.debug("OutboxEventPublisher : enqueueAll : Queued {} {} events for topic {}", keys.length, eventType, topic);
+    }
+}
@@ -0,0 +1,110 @@
+package com.SwitchBoard.AuthService.Kafka.Service.impl;
+
+import com.SwitchBoard.AuthService.Metrics.AuthMetrics;
+import com.SwitchBoard.AuthService.Model.OutboxEvent;
+import com.SwitchBoard.AuthService.Repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.RoutingKafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox to Kafka. Each batch is locked with {@code FOR UPDATE SKIP LOCKED},
+ * sent without waiting between records so the producer can batch them, and deleted once
+ * acknowledged. Records that fail stay in the table and are retried on the next poll,
+ * giving at-least-once delivery.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelayService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RoutingKafkaTemplate eventKafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    @Value("${app.outbox.send-timeout-ms:35000}")
+    private long sendTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:250}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                Integer relayed = transactionTemplate.execute(status -> relayBatch());
+                if (relayed == null || relayed < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("OutboxRelayService : relay : Relay pass failed - {}", e.getMessage(), e);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<SendResult<Object, Object>>> futures = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            CompletableFuture<SendResult<Object, Object>> future = send(event);
+            futures.add(future);
+            if (future.isCompletedExceptionally()) {
+                // The broker is unreachable; every further send would block for max.block.ms
+                break;
+            }
+        }
+
+        List<Long> delivered = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            try {
+                futures.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                delivered.add(event.getId());
+            } catch (Exception e) {
+                log.warn("OutboxRelayService : relayBatch : Event {} not delivered, will retry - {}", event.getId(), e.getMessage());
+            }
+        }
+        outboxEventRepository.deleteAllByIdInBatch(delivered);
+        log.info("OutboxRelayService : relayBatch : Relayed {} of {} outbox events", delivered.size(), batch.size());
+        return delivered.size();
+    }
+
+    private CompletableFuture<SendResult<Object, Object>> send(OutboxEvent event) {
+        Object payload;
+        try {
+            payload = objectMapper.readValue(event.getPayload(), event.getEventType().getEventClass());
+        } catch (IOException e) {
+            // An undecodable row would be retried forever; drop it with a trace in the log
+            log.error("OutboxRelayService : send : Dropping undecodable outbox event {} - {}", event.getId(), e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        try {
+            return eventKafkaTemplate.send(event.getTopic(), event.getMessageKey(), payload)
+                    .whenComplete((result, e) -> authMetrics.kafkaSend(event.getTopic(), start, e == null));
+        } catch (Exception e) {
+            authMetrics.kafkaSend(event.getTopic(), start, false);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
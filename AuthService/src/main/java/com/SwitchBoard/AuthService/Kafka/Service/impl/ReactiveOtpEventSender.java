@@ -0,0 +1,46 @@
+package com.SwitchBoard.AuthService.Kafka.Service.impl;
+
+import com.SwitchBoard.AuthService.Metrics.AuthMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import switchboard.schemas.OTPNotificationEvent;
+
+/**
+ * Sends OTP notifications straight to Kafka for the {@code reactive} profile. The send-otp flow
+ * writes nothing to Postgres, so there is no transaction for an outbox row to join; the request
+ * completes once the broker has acknowledged the event, and fails if it does not.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveOtpEventSender {
+
+    private final KafkaSender<String, Object> reactiveEventSender;
+    private final AuthMetrics authMetrics;
+
+    @Value("${app.topic.otp-notification}")
+    private String topic;
+
+    public Mono<Void> publishOTPNotification(String emailID, String otp) {
+        SenderRecord<String, Object, String> record = SenderRecord.create(
+                new ProducerRecord<>(topic, emailID, new OTPNotificationEvent(emailID, otp)), emailID);
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return reactiveEventSender.send(Mono.just(record))
+                            .next()
+                            .doOnNext(result -> authMetrics.kafkaSend(topic, start, result.exception() == null))
+                            .doOnError(e -> authMetrics.kafkaSend(topic, start, false));
+                })
+                .doOnNext(result -> log.debug("ReactiveOtpEventSender : publishOTPNotification : Sent OTPNotificationEvent to {}", result.recordMetadata()))
+                .doOnError(e -> log.error("ReactiveOtpEventSender : publishOTPNotification : Error publishing OTPNotificationEvent: {}", e.getMessage()))
+                .then();
+    }
+}
@@ -0,0 +1,98 @@
+package com.SwitchBoard.AuthService.Metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for the auth stages that Boot does not instrument on its own. Redis commands
+ * ({@code lettuce.command.*}), repository queries ({@code spring.data.repository.invocations}),
+ * connection pool waits ({@code hikaricp.*}) and requests ({@code http.server.requests}) come from
+ * Boot's auto-configuration; percentile histograms are switched on in application.properties.
+ * Tagged meters are registered once per tag value and cached, so recording is a map lookup, not a registry lookup.
+ */
+@Component
+public class AuthMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter otpIssued;
+    private final Counter otpCooldownRejected;
+    private final Counter rateLimitUnavailable;
+    private final Timer jwtSign;
+    private final Map<String, Counter> otpVerifications = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Counter>> rateLimitRejections = new ConcurrentHashMap<>();
+    private final Map<String, Timer> kafkaSendSuccesses = new ConcurrentHashMap<>();
+    private final Map<String, Timer> kafkaSendFailures = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.otpIssued = Counter.builder("auth.otp.issued")
+                .description("OTPs stored and handed to the notification pipeline")
+                .register(registry);
+        this.otpCooldownRejected = Counter.builder("auth.otp.cooldown.rejected")
+                .description("send-otp requests refused because the cooldown was active")
+                .register(registry);
+        this.rateLimitUnavailable = Counter.builder("auth.ratelimit.unavailable")
+                .description("Requests let through unchecked because the rate limit script failed")
+                .register(registry);
+        this.jwtSign = Timer.builder("auth.jwt.sign")
+                .description("Access token claims serialization and RS256 signature")
+                .register(registry);
+    }
+
+    public void otpIssued() {
+        otpIssued.increment();
+    }
+
+    public void otpCooldownRejected() {
+        otpCooldownRejected.increment();
+    }
+
+    /** @param outcome verified, mismatch, not_found or max_attempts */
+    public void otpVerification(String outcome) {
+        otpVerifications.computeIfAbsent(outcome, key -> Counter.builder("auth.otp.verify")
+                        .description("verify-otp attempts by outcome")
+                        .tag("outcome", key)
+                        .register(registry))
+                .increment();
+    }
+
+    /** @param limit the bucket that was empty: ip, email or global */
+    public void rateLimited(String endpoint, String limit) {
+        rateLimitRejections.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(limit, key -> Counter.builder("auth.ratelimit.rejected")
+                        .description("Requests refused with 429 by the rate limiter")
+                        .tag("endpoint", endpoint)
+                        .tag("limit", key)
+                        .register(registry))
+                .increment();
+    }
+
+    public void rateLimitUnavailable() {
+        rateLimitUnavailable.increment();
+    }
+
+    public void jwtSigned(long startNanos) {
+        jwtSign.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Time from handing an event to the producer until the broker acknowledged or the send failed. */
+    public void kafkaSend(String topic, long startNanos, boolean success) {
+        (success ? kafkaSendSuccesses : kafkaSendFailures)
+                .computeIfAbsent(topic, key -> kafkaSendTimer(key, success ? "success" : "failure"))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer kafkaSendTimer(String topic, String outcome) {
+        return Timer.builder("auth.kafka.send")
+                .description("Kafka send latency until acknowledgement")
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -7,12 +7,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.util.Collections;
 import java.util.Date;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Data
@@ -52,8 +53,16 @@ public class Account {
     private int taskAssignedCount=0;
     private int taskCompletedCount=0;
 
-    @Enumerated(EnumType.STRING)
-    private List<USER_ROLE> userRole = Collections.singletonList(USER_ROLE.USER);
+    // smallint bitmask instead of a varchar[]; NOT NULL is added by db/contract.sql once existing rows are converted
+    @Convert(converter = UserRoleConverter.class)
+    @Column(name = "user_roles")
+    private Set<USER_ROLE> userRole = EnumSet.of(USER_ROLE.USER);
+
+    // Bumped by every update; clients send it back as If-Match. The default lets ddl-auto add it to existing rows
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 
     @CreationTimestamp
     private Date createdAt ;
@@ -0,0 +1,23 @@
+package com.SwitchBoard.AuthService.Model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Pending OTP as stored in Redis (see {@link com.SwitchBoard.AuthService.Util.OtpStateCodec}).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OtpState {
+
+    /** Raw SHA-256 digest of the OTP, 32 bytes. */
+    private byte[] digest;
+    private int attempts;
+    private Instant issuedAt;
+}
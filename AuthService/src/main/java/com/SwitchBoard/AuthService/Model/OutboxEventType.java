@@ -0,0 +1,24 @@
+package com.SwitchBoard.AuthService.Model;
+
+import switchboard.schemas.OTPNotificationEvent;
+import switchboard.schemas.OnboardingEvent;
+
+/**
+ * Event kinds that can be written to the outbox, with the class their payload decodes to.
+ * Payloads are stored in plaintext, so events carrying secrets (OTPs) are sent directly instead.
+ */
+public enum OutboxEventType {
+    // Nothing writes it any more; kept so the relay still delivers, and so deletes, rows queued by the previous release
+    OTP_NOTIFICATION(OTPNotificationEvent.class),
+    ONBOARDING(OnboardingEvent.class);
+
+    private final Class<?> eventClass;
+
+    OutboxEventType(Class<?> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    public Class<?> getEventClass() {
+        return eventClass;
+    }
+}
@@ -21,8 +21,9 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
     
-    @Column(unique = true, nullable = false, length = 512)
-    private String token;
+    /** SHA-256 of the token value; the raw token is never persisted. */
+    @Column(name = "token_hash", unique = true, length = 32)
+    private byte[] tokenHash;
     
     @Column(name = "expiry_date", nullable = false)
     private LocalDateTime expiryDate;
@@ -0,0 +1,50 @@
+package com.SwitchBoard.AuthService.Model;
+
+import com.SwitchBoard.AuthService.DTO.Account.USER_ROLE;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Stores a role set as the {@code smallint} bitmask in account.user_roles, one {@link USER_ROLE#bit()} per role.
+ */
+@Converter
+public class UserRoleConverter implements AttributeConverter<Set<USER_ROLE>, Short> {
+
+    private static final USER_ROLE[] ROLES = USER_ROLE.values();
+
+    @Override
+    public Short convertToDatabaseColumn(Set<USER_ROLE> roles) {
+        return toMask(roles);
+    }
+
+    @Override
+    public Set<USER_ROLE> convertToEntityAttribute(Short mask) {
+        return fromMask(mask);
+    }
+
+    public static short toMask(Collection<USER_ROLE> roles) {
+        int mask = 0;
+        if (roles != null) {
+            for (USER_ROLE role : roles) {
+                mask |= role.bit();
+            }
+        }
+        return (short) mask;
+    }
+
+    public static EnumSet<USER_ROLE> fromMask(Short mask) {
+        EnumSet<USER_ROLE> roles = EnumSet.noneOf(USER_ROLE.class);
+        if (mask != null) {
+            for (USER_ROLE role : ROLES) {
+                if ((mask & role.bit()) != 0) {
+                    roles.add(role);
+                }
+            }
+        }
+        return roles;
+    }
+}
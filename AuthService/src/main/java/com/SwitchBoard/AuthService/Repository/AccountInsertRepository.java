@@ -0,0 +1,73 @@
+package com.SwitchBoard.AuthService.Repository;
+
+import com.SwitchBoard.AuthService.Model.Account;
+import com.SwitchBoard.AuthService.Model.UserRoleConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Conflict-aware account inserts outside JPA, for signup and the bulk import: any number of accounts go to
+ * Postgres as one statement over column arrays, and the unique email index settles which of them are new.
+ * Concurrent signups for one email cannot both get past it, unlike a lookup followed by a save.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountInsertRepository {
+
+    private static final String INSERT_IF_ABSENT_SQL = "INSERT INTO account (id, name, email, mobile, linkedin_url, github_url, " +
+            "leetcode_url, cv_path, deadline, aim_role, current_role_name, total_reward_points, task_assigned_count, " +
+            "task_completed_count, user_roles, version, created_at, updated_at) " +
+            "SELECT a.*, 0, ?, ? " +
+            "FROM unnest(?::uuid[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], " +
+            "?::varchar[], ?::timestamp[], ?::varchar[], ?::varchar[], ?::int[], ?::int[], ?::int[], ?::smallint[]) " +
+            "AS a(id, name, email, mobile, linkedin_url, github_url, leetcode_url, cv_path, deadline, aim_role, " +
+            "current_role_name, total_reward_points, task_assigned_count, task_completed_count, user_roles) " +
+            "ON CONFLICT (email) DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the accounts whose email is not taken yet and returns their ids; the rest are skipped.
+     * Ids must be assigned and emails normalized by the caller; created and updated timestamps are set here.
+     */
+    public Set<UUID> insertIfAbsent(List<Account> accounts) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<UUID> inserted = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_IF_ABSENT_SQL);
+            statement.setTimestamp(1, now);
+            statement.setTimestamp(2, now);
+            statement.setArray(3, connection.createArrayOf("uuid", column(accounts, Account::getId)));
+            statement.setArray(4, connection.createArrayOf("varchar", column(accounts, Account::getName)));
+            statement.setArray(5, connection.createArrayOf("varchar", column(accounts, Account::getEmail)));
+            statement.setArray(6, connection.createArrayOf("varchar", column(accounts, Account::getMobile)));
+            statement.setArray(7, connection.createArrayOf("varchar", column(accounts, Account::getLinkedinUrl)));
+            statement.setArray(8, connection.createArrayOf("varchar", column(accounts, Account::getGithubUrl)));
+            statement.setArray(9, connection.createArrayOf("varchar", column(accounts, Account::getLeetcodeUrl)));
+            statement.setArray(10, connection.createArrayOf("varchar", column(accounts, Account::getCvPath)));
+            statement.setArray(11, connection.createArrayOf("timestamp", column(accounts,
+                    account -> account.getDeadline() == null ? null : new Timestamp(account.getDeadline().getTime()))));
+            statement.setArray(12, connection.createArrayOf("varchar", column(accounts, Account::getAimRole)));
+            statement.setArray(13, connection.createArrayOf("varchar", column(accounts, Account::getCurrentRole)));
+            statement.setArray(14, connection.createArrayOf("int", column(accounts, Account::getTotalRewardPoints)));
+            statement.setArray(15, connection.createArrayOf("int", column(accounts, Account::getTaskAssignedCount)));
+            statement.setArray(16, connection.createArrayOf("int", column(accounts, Account::getTaskCompletedCount)));
+            statement.setArray(17, connection.createArrayOf("smallint", column(accounts,
+                    account -> UserRoleConverter.toMask(account.getUserRole()))));
+            return statement;
+        }, (resultSet, rowNum) -> resultSet.getObject(1, UUID.class));
+        return new HashSet<>(inserted);
+    }
+
+    private static Object[] column(List<Account> accounts, Function<Account, Object> field) {
+        return accounts.stream().map(field).toArray();
+    }
+}
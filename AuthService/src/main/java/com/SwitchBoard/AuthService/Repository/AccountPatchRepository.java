@@ -0,0 +1,81 @@
+package com.SwitchBoard.AuthService.Repository;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Profile updates as one UPDATE of just the columns a PATCH sets, instead of loading the account and
+ * letting Hibernate rewrite every column. The version check rides in the WHERE clause, so two concurrent
+ * updates of one version cannot both succeed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountPatchRepository {
+
+    public record PatchedAccount(String email, String name, long version) {
+    }
+
+    // Columns a PATCH may change, in a fixed order so equal field sets share one statement; null leaves a column as it is
+    private static final Map<String, Function<AccountRequestDto, Object>> PATCHABLE_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        PATCHABLE_COLUMNS.put("aim_role", AccountRequestDto::getAimRole);
+        PATCHABLE_COLUMNS.put("deadline", updates -> updates.getDeadline() == null ? null : new Timestamp(updates.getDeadline().getTime()));
+        PATCHABLE_COLUMNS.put("current_role_name", AccountRequestDto::getCurrentRole);
+        PATCHABLE_COLUMNS.put("github_url", AccountRequestDto::getGithubUrl);
+        PATCHABLE_COLUMNS.put("linkedin_url", AccountRequestDto::getLinkedinUrl);
+        PATCHABLE_COLUMNS.put("leetcode_url", AccountRequestDto::getLeetcodeUrl);
+        PATCHABLE_COLUMNS.put("mobile", AccountRequestDto::getMobile);
+    }
+
+    private static final RowMapper<PatchedAccount> PATCHED_ACCOUNT = (resultSet, rowNum) ->
+            new PatchedAccount(resultSet.getString("email"), resultSet.getString("name"), resultSet.getLong("version"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Applies the non-null fields of {@code updates} and bumps the version, if the account exists and, when
+     * {@code expectedVersion} is given, is still at that version. Empty when either condition fails.
+     * With nothing to change the account is only checked, and keeps its version.
+     */
+    public Optional<PatchedAccount> patch(UUID id, AccountRequestDto updates, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("UPDATE account SET ");
+        List<Object> args = new ArrayList<>();
+        PATCHABLE_COLUMNS.forEach((column, field) -> {
+            Object value = field.apply(updates);
+            if (value != null) {
+                sql.append(column).append(" = ?, ");
+                args.add(value);
+            }
+        });
+        boolean changes = !args.isEmpty();
+        if (!changes) {
+            sql.setLength(0);
+            sql.append("SELECT email, name, version FROM account WHERE id = ?");
+        } else {
+            sql.append("version = version + 1, updated_at = ? WHERE id = ?");
+            args.add(new Timestamp(System.currentTimeMillis()));
+        }
+        args.add(id);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            args.add(expectedVersion);
+        }
+        if (changes) {
+            sql.append(" RETURNING email, name, version");
+        }
+        return jdbcTemplate.query(sql.toString(), PATCHED_ACCOUNT, args.toArray()).stream().findFirst();
+    }
+}
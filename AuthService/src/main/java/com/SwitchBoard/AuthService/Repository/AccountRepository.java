@@ -1,14 +1,51 @@
 package com.SwitchBoard.AuthService.Repository;
 
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Account.AccountView;
 import com.SwitchBoard.AuthService.Model.Account;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, UUID> {
-    Optional<Account> findByEmail(String email);
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.SwitchBoard.AuthService.DTO.Account.AccountIdentity(a.id, a.email, a.name, a.userRole) FROM Account a WHERE a.email = :email")
+    Optional<AccountIdentity> findIdentityByEmail(@Param("email") String email);
+
+    // Aliased select lists make Spring Data back AccountView with tuples instead of managed entities
+    String ACCOUNT_VIEW_SELECT = "SELECT a.id AS id, a.name AS name, a.email AS email, a.mobile AS mobile, " +
+            "a.linkedinUrl AS linkedinUrl, a.githubUrl AS githubUrl, a.leetcodeUrl AS leetcodeUrl, a.cvPath AS cvPath, " +
+            "a.deadline AS deadline, a.aimRole AS aimRole, a.currentRole AS currentRole, " +
+            "a.totalRewardPoints AS totalRewardPoints, a.taskAssignedCount AS taskAssignedCount, " +
+            "a.taskCompletedCount AS taskCompletedCount, a.userRole AS userRole, a.version AS version FROM Account a ";
+
+    @Query("SELECT a.version FROM Account a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Query(ACCOUNT_VIEW_SELECT + "ORDER BY a.id")
+    List<AccountView> findAccountViews(Limit limit);
+
+    @Query(ACCOUNT_VIEW_SELECT + "WHERE a.id > :cursor ORDER BY a.id")
+    List<AccountView> findAccountViewsAfter(@Param("cursor") UUID cursor, Limit limit);
+
+    // Bit 1 is USER_ROLE.ADMIN; the literal predicate matches the partial index idx_account_admin (db/migration.sql)
+    @Query(value = "SELECT * FROM account WHERE (user_roles & 1) <> 0 ORDER BY id", nativeQuery = true)
+    List<Account> findAdmins();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ACCOUNT_VIEW_SELECT + "ORDER BY a.id")
+    Stream<AccountView> streamAccountViews();
 }
 
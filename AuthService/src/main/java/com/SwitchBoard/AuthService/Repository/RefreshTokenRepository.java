@@ -1,5 +1,6 @@
 package com.SwitchBoard.AuthService.Repository;
 
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
 import com.SwitchBoard.AuthService.Model.Account;
 import com.SwitchBoard.AuthService.Model.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,8 +17,6 @@ import java.util.UUID;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
     
-    Optional<RefreshToken> findByToken(String token);
-    
     List<RefreshToken> findByAccountAndIsRevokedFalse(Account account);
     
     @Modifying
@@ -25,9 +24,15 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
     void revokeAllTokensByAccount(@Param("account") Account account);
     
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :currentTime")
-    void deleteExpiredTokens(@Param("currentTime") LocalDateTime currentTime);
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN (" +
+            "SELECT id FROM refresh_tokens WHERE expiry_date < :currentTime OR is_revoked " +
+            "LIMIT :batchSize FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteExpiredTokens(@Param("currentTime") LocalDateTime currentTime, @Param("batchSize") int batchSize);
+    
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.isRevoked = true WHERE rt.tokenHash = :tokenHash AND rt.isRevoked = false AND rt.expiryDate > :currentTime")
+    int revokeValidToken(@Param("tokenHash") byte[] tokenHash, @Param("currentTime") LocalDateTime currentTime);
     
-    @Query("SELECT rt FROM RefreshToken rt WHERE rt.token = :token AND rt.isRevoked = false AND rt.expiryDate > :currentTime")
-    Optional<RefreshToken> findValidToken(@Param("token") String token, @Param("currentTime") LocalDateTime currentTime);
+    @Query("SELECT new com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant(a.id, a.email) FROM RefreshToken rt JOIN rt.account a WHERE rt.tokenHash = :tokenHash")
+    Optional<RefreshTokenGrant> findGrantByTokenHash(@Param("tokenHash") byte[] tokenHash);
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.SwitchBoard.AuthService.Security;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.Service.AccountIdentityResolver;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authenticates bearer access tokens on the endpoints that {@code requestMatcher} selects. The principal is
+ * the account's current {@link AccountIdentity}, so a role revoked after the token was issued no longer counts.
+ * A missing or invalid token leaves the request anonymous for the authorization rules to refuse.
+ * Not a bean, so Boot does not also register it on the servlet filter chain.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final RequestMatcher requestMatcher;
+    private final AccessTokenVerifier accessTokenVerifier;
+    private final AccountIdentityResolver accountIdentityResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !requestMatcher.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            authenticate(header.substring(BEARER.length()).trim(), request)
+                    .ifPresent(identity -> {
+                        SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(identity, null,
+                                identity.getUserRole().stream().map(role -> new SimpleGrantedAuthority("ROLE_" + role.name())).toList()));
+                        SecurityContextHolder.setContext(context);
+                    });
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Optional<AccountIdentity> authenticate(String token, HttpServletRequest request) {
+        Claims claims;
+        try {
+            claims = accessTokenVerifier.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("AccessTokenAuthenticationFilter : authenticate : Rejected access token at URI: {} - {}", request.getRequestURI(), e.getMessage());
+            return Optional.empty();
+        }
+        if (claims.getSubject() == null) {
+            return Optional.empty();
+        }
+        Optional<AccountIdentity> identity = accountIdentityResolver.findByEmail(claims.getSubject());
+        if (identity.isEmpty()) {
+            log.warn("AccessTokenAuthenticationFilter : authenticate : Token subject has no account - {}", claims.getSubject());
+        }
+        return identity;
+    }
+}
@@ -0,0 +1,41 @@
+package com.SwitchBoard.AuthService.Security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+
+/**
+ * Verifies access tokens issued by {@link com.SwitchBoard.AuthService.Util.JwtUtil} against the keys
+ * published in the JWKS document, so tokens signed before a rotation keep working.
+ */
+@Component
+public class AccessTokenVerifier {
+
+    private final JwtParser parser;
+
+    public AccessTokenVerifier(SigningKeyManager signingKeyManager) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return signingKeyManager.getKeySet().getVerificationKeys().stream()
+                                .filter(key -> key.getKeyId().equals(header.getKeyId()))
+                                .findFirst()
+                                .map(VerificationKey::getPublicKey)
+                                .orElseThrow(() -> new JwtException("Unknown key id " + header.getKeyId()));
+                    }
+                })
+                .build();
+    }
+
+    /** The claims of a valid, unexpired token; throws {@link JwtException} otherwise. */
+    public Claims verify(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+}
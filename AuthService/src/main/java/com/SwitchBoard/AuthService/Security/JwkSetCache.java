@@ -0,0 +1,88 @@
+package com.SwitchBoard.AuthService.Security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serialized JWKS document for the current {@link KeySet}.
+ * The JSON body and its ETag are computed once per key set and shared by every request.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwkSetCache {
+
+    private final SigningKeyManager signingKeyManager;
+    private final ObjectMapper objectMapper;
+
+    private volatile Document document;
+
+    public Document getDocument() {
+        KeySet keySet = signingKeyManager.getKeySet();
+        Document cached = document;
+        if (cached != null && cached.source == keySet) {
+            return cached;
+        }
+        Document rebuilt = build(keySet);
+        document = rebuilt;
+        return rebuilt;
+    }
+
+    private Document build(KeySet keySet) {
+        log.info("JwkSetCache : build : Building JWKS document for {} key(s)", keySet.getVerificationKeys().size());
+        List<Map<String, String>> keys = keySet.getVerificationKeys().stream()
+                .map(JwkSetCache::toJwk)
+                .toList();
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("keys", keys));
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+            return new Document(keySet, body, etag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to build JWKS document", e);
+        }
+    }
+
+    private static Map<String, String> toJwk(VerificationKey key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("use", "sig");
+        jwk.put("alg", "RS256");
+        jwk.put("kid", key.getKeyId());
+        jwk.put("n", key.getModulus());
+        jwk.put("e", key.getExponent());
+        return jwk;
+    }
+
+    public static final class Document {
+        private final KeySet source;
+        private final byte[] body;
+        private final String etag;
+
+        private Document(KeySet source, byte[] body, String etag) {
+            this.source = source;
+            this.body = body;
+            this.etag = etag;
+        }
+
+        /** Serialized JWKS JSON; callers must not modify the returned array. */
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
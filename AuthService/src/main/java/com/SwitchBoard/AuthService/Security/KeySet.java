@@ -0,0 +1,34 @@
+package com.SwitchBoard.AuthService.Security;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of the active signing key and every public key that tokens
+ * may still be verified against. A new instance is created whenever the set changes,
+ * so callers can detect changes by identity.
+ */
+public final class KeySet {
+
+    private final SigningKey signingKey;
+    private final List<VerificationKey> verificationKeys;
+
+    public KeySet(SigningKey signingKey, List<VerificationKey> previousKeys) {
+        this.signingKey = signingKey;
+        this.verificationKeys = Stream.concat(Stream.of(signingKey.getVerificationKey()), previousKeys.stream()).toList();
+    }
+
+    public SigningKey getSigningKey() {
+        return signingKey;
+    }
+
+    /** The current key first, followed by previous keys that are still published. */
+    public List<VerificationKey> getVerificationKeys() {
+        return verificationKeys;
+    }
+
+    /** Previously active keys, excluding the current one. */
+    public List<VerificationKey> getPreviousKeys() {
+        return verificationKeys.subList(1, verificationKeys.size());
+    }
+}
@@ -0,0 +1,100 @@
+package com.SwitchBoard.AuthService.Security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Immutable, already-parsed RSA key pair used to sign access tokens.
+ * Initialised {@link Signature} instances are pooled and reused for every token, so the sign
+ * path performs no key parsing and no provider lookup. A pool rather than a thread-local,
+ * because with virtual threads every request runs on a new thread.
+ */
+public final class SigningKey {
+
+    public static final String JCA_ALGORITHM = "SHA256withRSA";
+
+    private final RSAPrivateKey privateKey;
+    private final RSAPublicKey publicKey;
+    private final VerificationKey verificationKey;
+    private final String encodedHeader;
+    private final BlockingQueue<Signature> signers;
+
+    public SigningKey(RSAPrivateKey privateKey, RSAPublicKey publicKey) {
+        this.privateKey = privateKey;
+        this.publicKey = publicKey;
+        this.verificationKey = new VerificationKey(publicKey);
+        String header = "{\"alg\":\"RS256\",\"kid\":\"" + verificationKey.getKeyId() + "\"}";
+        this.encodedHeader = Base64.getUrlEncoder().withoutPadding().encodeToString(header.getBytes(StandardCharsets.UTF_8));
+        this.signers = new ArrayBlockingQueue<>(Math.max(2, Runtime.getRuntime().availableProcessors() * 2));
+    }
+
+    public String getKeyId() {
+        return verificationKey.getKeyId();
+    }
+
+    public RSAPrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    public RSAPublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    public VerificationKey getVerificationKey() {
+        return verificationKey;
+    }
+
+    /** Base64url-encoded JWS header naming this key, ready to be prefixed to a payload. */
+    public String getEncodedHeader() {
+        return encodedHeader;
+    }
+
+    /** Sign the given bytes with RS256 using a pooled signer. */
+    public byte[] sign(byte[] data) throws SignatureException {
+        Signature signature = signers.poll();
+        if (signature == null) {
+            signature = newSigner();
+        }
+        signature.update(data);
+        byte[] result = signature.sign();
+        // sign() resets the instance for reuse; when the pool is full the extra instance is dropped
+        signers.offer(signature);
+        return result;
+    }
+
+    /** Check that the private and public halves belong together by signing and verifying a probe. */
+    void validate() throws GeneralSecurityException {
+        if (!privateKey.getModulus().equals(publicKey.getModulus())) {
+            throw new InvalidKeyException("Private key does not match public key (modulus mismatch)");
+        }
+        if (publicKey.getModulus().bitLength() < 2048) {
+            throw new InvalidKeyException("RSA key must be at least 2048 bits, got " + publicKey.getModulus().bitLength());
+        }
+        byte[] probe = "signing-key-probe".getBytes();
+        Signature verifier = Signature.getInstance(JCA_ALGORITHM);
+        verifier.initVerify(publicKey);
+        verifier.update(probe);
+        if (!verifier.verify(sign(probe))) {
+            throw new InvalidKeyException("Signature produced by private key could not be verified with public key");
+        }
+    }
+
+    private Signature newSigner() {
+        try {
+            Signature signature = Signature.getInstance(JCA_ALGORITHM);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Unable to initialise RS256 signer", e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.SwitchBoard.AuthService.Security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ResourceUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Owns the RSA key material used for JWT signing and verification.
+ * Keys are parsed and validated once at startup; when the key files live on the
+ * filesystem they are polled for changes and swapped in atomically. The key that was
+ * active before a rotation stays published so tokens it signed keep validating.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SigningKeyManager {
+
+    private final ResourceLoader resourceLoader;
+
+    @Value("${jwt.private-key}")
+    private String privateKeyPath;
+
+    @Value("${jwt.public-key}")
+    private String publicKeyPath;
+
+    @Value("${jwt.previous-public-keys:}")
+    private List<String> previousPublicKeyPaths;
+
+    @Value("${jwt.previous-keys-limit:2}")
+    private int previousKeysLimit;
+
+    private final AtomicReference<KeySet> current = new AtomicReference<>();
+
+    private volatile long privateKeyModified;
+    private volatile long publicKeyModified;
+
+    @PostConstruct
+    void init() throws IOException, GeneralSecurityException {
+        log.info("SigningKeyManager : init : Loading signing keys - private: {}, public: {}", privateKeyPath, publicKeyPath);
+        List<VerificationKey> previousKeys = new ArrayList<>();
+        for (String path : previousPublicKeyPaths) {
+            if (!path.isBlank()) {
+                previousKeys.add(new VerificationKey(readPublicKey(resolve(path.trim()))));
+            }
+        }
+        current.set(buildKeySet(load(), previousKeys));
+        if (!resolve(privateKeyPath).isFile() || !resolve(publicKeyPath).isFile()) {
+            log.info("SigningKeyManager : init : Keys are not plain files, hot reload disabled");
+        }
+        log.info("SigningKeyManager : init : Signing keys loaded and validated - kid: {}, previous keys: {}",
+                current.get().getSigningKey().getKeyId(), current.get().getPreviousKeys().size());
+    }
+
+    /** The active signing key; never {@code null} once the context has started. */
+    public SigningKey getSigningKey() {
+        return current.get().getSigningKey();
+    }
+
+    /** The current key set; a new instance is published on every rotation. */
+    public KeySet getKeySet() {
+        return current.get();
+    }
+
+    @Scheduled(initialDelayString = "${jwt.key-reload-interval-ms:30000}", fixedDelayString = "${jwt.key-reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        Resource privateResource = resolve(privateKeyPath);
+        Resource publicResource = resolve(publicKeyPath);
+        if (!privateResource.isFile() || !publicResource.isFile()) {
+            return;
+        }
+        try {
+            if (privateResource.lastModified() == privateKeyModified && publicResource.lastModified() == publicKeyModified) {
+                return;
+            }
+            log.info("SigningKeyManager : reloadIfChanged : Key files changed on disk, reloading");
+            SigningKey signingKey = load();
+            KeySet previous = current.get();
+            if (signingKey.getKeyId().equals(previous.getSigningKey().getKeyId())) {
+                log.info("SigningKeyManager : reloadIfChanged : Key material unchanged - kid: {}", signingKey.getKeyId());
+                return;
+            }
+            List<VerificationKey> previousKeys = new ArrayList<>(previous.getVerificationKeys());
+            current.set(buildKeySet(signingKey, previousKeys));
+            log.info("SigningKeyManager : reloadIfChanged : Signing key rotated from {} to {}",
+                    previous.getSigningKey().getKeyId(), signingKey.getKeyId());
+        } catch (Exception e) {
+            log.error("SigningKeyManager : reloadIfChanged : Reload failed, keeping previous keys - {}", e.getMessage(), e);
+        }
+    }
+
+    private KeySet buildKeySet(SigningKey signingKey, List<VerificationKey> previousKeys) {
+        Map<String, VerificationKey> byKeyId = new LinkedHashMap<>();
+        for (VerificationKey key : previousKeys) {
+            if (!key.getKeyId().equals(signingKey.getKeyId()) && byKeyId.size() < previousKeysLimit) {
+                byKeyId.putIfAbsent(key.getKeyId(), key);
+            }
+        }
+        return new KeySet(signingKey, List.copyOf(byKeyId.values()));
+    }
+
+    private SigningKey load() throws IOException, GeneralSecurityException {
+        Resource privateResource = resolve(privateKeyPath);
+        Resource publicResource = resolve(publicKeyPath);
+        long privateModified = lastModified(privateResource);
+        long publicModified = lastModified(publicResource);
+
+        RSAPrivateKey privateKey = (RSAPrivateKey) KeyFactory.getInstance("RSA").generatePrivate(
+                new PKCS8EncodedKeySpec(readPem(privateResource, "PRIVATE KEY")));
+        SigningKey signingKey = new SigningKey(privateKey, readPublicKey(publicResource));
+        signingKey.validate();
+
+        privateKeyModified = privateModified;
+        publicKeyModified = publicModified;
+        return signingKey;
+    }
+
+    private Resource resolve(String path) {
+        return ResourceUtils.isUrl(path) ? resourceLoader.getResource(path) : new ClassPathResource(path);
+    }
+
+    private static RSAPublicKey readPublicKey(Resource resource) throws IOException, GeneralSecurityException {
+        return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(
+                new X509EncodedKeySpec(readPem(resource, "PUBLIC KEY")));
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.isFile() ? resource.lastModified() : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static byte[] readPem(Resource resource, String type) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            String key = new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII)
+                    .replace("-----BEGIN " + type + "-----", "")
+                    .replace("-----END " + type + "-----", "");
+            return Base64.getMimeDecoder().decode(key);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.SwitchBoard.AuthService.Security;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * A public key published in the JWKS document, identified by its RFC 7638 thumbprint.
+ */
+public final class VerificationKey {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final String keyId;
+    private final RSAPublicKey publicKey;
+
+    public VerificationKey(RSAPublicKey publicKey) {
+        this.publicKey = publicKey;
+        this.keyId = thumbprint(publicKey);
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public RSAPublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /** Base64url of the modulus as an unsigned big-endian integer, as required by RFC 7518. */
+    public String getModulus() {
+        return encodeUnsigned(publicKey.getModulus());
+    }
+
+    public String getExponent() {
+        return encodeUnsigned(publicKey.getPublicExponent());
+    }
+
+    private static String thumbprint(RSAPublicKey publicKey) {
+        // Members in lexicographic order with no whitespace (RFC 7638 section 3.2)
+        String canonical = "{\"e\":\"" + encodeUnsigned(publicKey.getPublicExponent())
+                + "\",\"kty\":\"RSA\",\"n\":\"" + encodeUnsigned(publicKey.getModulus()) + "\"}";
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return BASE64_URL.encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String encodeUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+}
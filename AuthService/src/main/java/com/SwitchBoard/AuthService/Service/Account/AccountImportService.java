@@ -0,0 +1,13 @@
+package com.SwitchBoard.AuthService.Service.Account;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface AccountImportService {
+
+    enum Format { CSV, NDJSON }
+
+    /** Creates an account per row of {@code inputStream} and writes one NDJSON result per row, in file order. */
+    void importAccounts(InputStream inputStream, Format format, OutputStream outputStream) throws IOException;
+}
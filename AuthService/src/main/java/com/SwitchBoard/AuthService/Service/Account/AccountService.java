@@ -1,16 +1,21 @@
 package com.SwitchBoard.AuthService.Service.Account;
 
+import com.SwitchBoard.AuthService.DTO.Account.AccountPageResponseDto;
 import com.SwitchBoard.AuthService.DTO.Account.AccountRequestDto;
 import com.SwitchBoard.AuthService.DTO.Account.AccountResponseDto;
+import com.SwitchBoard.AuthService.DTO.Account.AccountUpdateResult;
 import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
 import com.SwitchBoard.AuthService.Model.Account;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
 
 public interface AccountService {
     public ApiResponse createProfile(AccountRequestDto account);
-    public ApiResponse updateProfile(UUID accountId, AccountRequestDto updates);
-    public List<AccountResponseDto> getAllUsers();
+    /** {@code expectedVersion} from If-Match, or null to update whatever the current version is. */
+    public AccountUpdateResult updateProfile(UUID accountId, AccountRequestDto updates, Long expectedVersion);
+    public AccountPageResponseDto getUsersPage(UUID cursor, int limit);
+    public void exportUsers(OutputStream outputStream) throws IOException;
     public AccountResponseDto getUser(UUID id);
 }
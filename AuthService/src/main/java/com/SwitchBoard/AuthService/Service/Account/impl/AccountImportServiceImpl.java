@@ -0,0 +1,289 @@
+package com.SwitchBoard.AuthService.Service.Account.impl;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountImportResult;
+import com.SwitchBoard.AuthService.DTO.Account.AccountRequestDto;
+import com.SwitchBoard.AuthService.Exception.BadRequestException;
+import com.SwitchBoard.AuthService.Kafka.Service.impl.OnboardingEventProducer;
+import com.SwitchBoard.AuthService.Model.Account;
+import com.SwitchBoard.AuthService.Repository.AccountInsertRepository;
+import com.SwitchBoard.AuthService.Service.Account.AccountImportService;
+import com.SwitchBoard.AuthService.Service.AccountIdentityResolver;
+import com.SwitchBoard.AuthService.Service.ReadYourWritesTracker;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Reads the upload row by row and imports it in chunks of {@code account.import.chunk-size} rows.
+ * Each chunk is one transaction holding one account insert, which skips emails that are already taken,
+ * and one outbox insert for the onboarding events of the accounts it created. Results are written per chunk,
+ * so memory stays bounded by the chunk size plus the set of emails seen so far.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountImportServiceImpl implements AccountImportService {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    // Every text column of account is varchar(255); one longer value would fail the whole chunk
+    private static final int MAX_LENGTH = 255;
+
+    private final AccountInsertRepository accountInsertRepository;
+    private final OnboardingEventProducer onboardingEventProducer;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Value("${account.import.chunk-size:1000}")
+    private int chunkSize;
+
+    private record Row(int line, Account account, AccountImportResult result) {
+    }
+
+    public void importAccounts(InputStream inputStream, Format format, OutputStream outputStream) throws IOException {
+        log.info("AccountImportService : importAccounts : Importing {} accounts in chunks of {}", format, chunkSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        Set<String> seenEmails = new HashSet<>();
+        RowSource rows = format == Format.CSV ? csvRows(reader, seenEmails) : ndjsonRows(reader, seenEmails);
+
+        Map<AccountImportResult.Status, Integer> totals = new EnumMap<>(AccountImportResult.Status.class);
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        try (SequenceWriter writer = objectMapper.writerFor(AccountImportResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream)) {
+            Row row;
+            while ((row = rows.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    writeResults(importChunk(chunk), writer, totals);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeResults(importChunk(chunk), writer, totals);
+            }
+        }
+        log.info("AccountImportService : importAccounts : Import finished - {}", totals);
+    }
+
+    /** The next row of the upload, or {@code null} after the last one. */
+    private interface RowSource {
+        Row next() throws IOException;
+    }
+
+    private RowSource csvRows(BufferedReader reader, Set<String> seenEmails) throws IOException {
+        MappingIterator<AccountRequestDto> iterator;
+        boolean hasRows;
+        try {
+            iterator = csvMapper.readerFor(AccountRequestDto.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(reader);
+            hasRows = iterator.hasNextValue();
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("CSV import requires a header row: " + e.getOriginalMessage());
+        }
+        // The header has been read by now, before any result is written
+        CsvSchema header = ((CsvParser) iterator.getParser()).getSchema();
+        if (header.column("email") == null) {
+            throw new BadRequestException("CSV import requires an email column");
+        }
+        return new CsvRows(iterator, hasRows, seenEmails);
+    }
+
+    private RowSource ndjsonRows(BufferedReader reader, Set<String> seenEmails) {
+        ObjectReader rowReader = objectMapper.readerFor(AccountRequestDto.class);
+        int[] lineNumber = {0};
+        return () -> {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber[0]++;
+                if (!line.isBlank()) {
+                    return parse(rowReader, line, lineNumber[0], seenEmails);
+                }
+            }
+            return null;
+        };
+    }
+
+    /**
+     * CSV rows come from a streaming MappingIterator rather than line by line, because a quoted value may span
+     * lines; each row is numbered by the line it starts on. A row that cannot be mapped is reported and skipped.
+     * Once the file cannot be split into rows any more, e.g. a quote is never closed, the rest is reported as
+     * one invalid row.
+     */
+    private class CsvRows implements RowSource {
+
+        private final MappingIterator<AccountRequestDto> iterator;
+        private final Set<String> seenEmails;
+        private boolean hasNext;
+        private Row unreadable;
+
+        CsvRows(MappingIterator<AccountRequestDto> iterator, boolean hasNext, Set<String> seenEmails) {
+            this.iterator = iterator;
+            this.hasNext = hasNext;
+            this.seenEmails = seenEmails;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (!hasNext) {
+                Row last = unreadable;
+                unreadable = null;
+                return last;
+            }
+            int lineNumber = iterator.getCurrentLocation().getLineNr();
+            Row row;
+            try {
+                row = validate(iterator.nextValue(), lineNumber, seenEmails);
+            } catch (JsonProcessingException e) {
+                row = rejected(lineNumber, null, AccountImportResult.Status.INVALID, "Malformed row: " + e.getOriginalMessage());
+            }
+            try {
+                hasNext = iterator.hasNextValue();
+            } catch (JsonProcessingException e) {
+                int unreadableLine = e.getLocation() != null ? e.getLocation().getLineNr() : lineNumber;
+                log.warn("AccountImportService : next : CSV unreadable from line {} - {}", unreadableLine, e.getOriginalMessage());
+                hasNext = false;
+                unreadable = rejected(unreadableLine, null, AccountImportResult.Status.INVALID,
+                        "Malformed CSV, the rest of the file was not imported: " + e.getOriginalMessage());
+            }
+            return row;
+        }
+    }
+
+    private Row parse(ObjectReader rowReader, String line, int lineNumber, Set<String> seenEmails) {
+        AccountRequestDto account;
+        try {
+            account = rowReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return rejected(lineNumber, null, AccountImportResult.Status.INVALID, "Malformed row: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            return rejected(lineNumber, null, AccountImportResult.Status.INVALID, "Malformed row");
+        }
+        return validate(account, lineNumber, seenEmails);
+    }
+
+    private Row validate(AccountRequestDto account, int lineNumber, Set<String> seenEmails) {
+        if (account.getEmail() == null || !EMAIL.matcher(account.getEmail().trim()).matches()) {
+            return rejected(lineNumber, account.getEmail(), AccountImportResult.Status.INVALID, "A valid email is required");
+        }
+        account.setEmail(AccountIdentityResolver.normalize(account.getEmail()));
+        if (account.getName() == null || account.getName().isBlank()) {
+            return rejected(lineNumber, account.getEmail(), AccountImportResult.Status.INVALID, "Name is required");
+        }
+        if (Stream.of(account.getName(), account.getEmail(), account.getMobile(), account.getLinkedinUrl(), account.getGithubUrl(),
+                        account.getLeetcodeUrl(), account.getCvPath(), account.getAimRole(), account.getCurrentRole())
+                .anyMatch(value -> value != null && value.length() > MAX_LENGTH)) {
+            return rejected(lineNumber, account.getEmail(), AccountImportResult.Status.INVALID,
+                    "Values may be at most " + MAX_LENGTH + " characters");
+        }
+        if (!seenEmails.add(account.getEmail())) {
+            return rejected(lineNumber, account.getEmail(), AccountImportResult.Status.DUPLICATE_IN_FILE, "Email appears earlier in the file");
+        }
+        return new Row(lineNumber, AccountServiceImpl.newUserAccount(account), null);
+    }
+
+    private static Row rejected(int lineNumber, String email, AccountImportResult.Status status, String message) {
+        return new Row(lineNumber, null, AccountImportResult.builder()
+                .line(lineNumber)
+                .email(email)
+                .status(status)
+                .message(message)
+                .build());
+    }
+
+    private List<AccountImportResult> importChunk(List<Row> chunk) {
+        List<Account> accounts = chunk.stream().filter(row -> row.result() == null).map(Row::account).toList();
+
+        Set<UUID> created = Set.of();
+        String failure = null;
+        if (!accounts.isEmpty()) {
+            try {
+                created = transactionTemplate.execute(status -> {
+                    Set<UUID> inserted = accountInsertRepository.insertIfAbsent(accounts);
+                    Map<String, String> namesByEmail = new LinkedHashMap<>();
+                    for (Account account : accounts) {
+                        if (inserted.contains(account.getId())) {
+                            namesByEmail.put(account.getEmail(), account.getName());
+                        }
+                    }
+                    if (!namesByEmail.isEmpty()) {
+                        onboardingEventProducer.publishOnboardingNotifications(namesByEmail);
+                    }
+                    return inserted;
+                });
+            } catch (RuntimeException e) {
+                log.error("AccountImportService : importChunk : Chunk from line {} failed - {}", chunk.get(0).line(), e.getMessage(), e);
+                failure = "Chunk could not be imported";
+            }
+        }
+
+        List<AccountImportResult> results = new ArrayList<>(chunk.size());
+        Map<UUID, String> written = new LinkedHashMap<>();
+        for (Row row : chunk) {
+            if (row.result() != null) {
+                results.add(row.result());
+                continue;
+            }
+            Account account = row.account();
+            AccountImportResult.AccountImportResultBuilder result = AccountImportResult.builder().line(row.line()).email(account.getEmail());
+            if (failure != null) {
+                result.status(AccountImportResult.Status.FAILED).message(failure);
+            } else if (created.contains(account.getId())) {
+                result.status(AccountImportResult.Status.CREATED).id(account.getId());
+                written.put(account.getId(), account.getEmail());
+            } else {
+                result.status(AccountImportResult.Status.ALREADY_EXISTS).message("Email already exists");
+            }
+            results.add(result.build());
+        }
+        readYourWritesTracker.markWritten(written);
+        return results;
+    }
+
+    private static void writeResults(List<AccountImportResult> results, SequenceWriter writer,
+                                     Map<AccountImportResult.Status, Integer> totals) throws IOException {
+        for (AccountImportResult result : results) {
+            writer.write(result);
+            totals.merge(result.getStatus(), 1, Integer::sum);
+        }
+        // Let the client follow progress chunk by chunk
+        writer.flush();
+    }
+}
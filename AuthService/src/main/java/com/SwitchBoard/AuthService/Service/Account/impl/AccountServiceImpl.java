@@ -1,21 +1,42 @@
 package com.SwitchBoard.AuthService.Service.Account.impl;
 
 
+import com.SwitchBoard.AuthService.Config.DataSourceRouting;
+import com.SwitchBoard.AuthService.DTO.Account.AccountPageResponseDto;
 import com.SwitchBoard.AuthService.DTO.Account.AccountRequestDto;
 import com.SwitchBoard.AuthService.DTO.Account.AccountResponseDto;
+import com.SwitchBoard.AuthService.DTO.Account.AccountUpdateResult;
+import com.SwitchBoard.AuthService.DTO.Account.AccountView;
 import com.SwitchBoard.AuthService.DTO.Account.USER_ROLE;
 import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import com.SwitchBoard.AuthService.Exception.ConflictException;
+import com.SwitchBoard.AuthService.Exception.PreconditionFailedException;
+import com.SwitchBoard.AuthService.Exception.ResourceNotFoundException;
 import com.SwitchBoard.AuthService.Kafka.Service.impl.OnboardingEventProducer;
 import com.SwitchBoard.AuthService.Model.Account;
+import com.SwitchBoard.AuthService.Repository.AccountInsertRepository;
+import com.SwitchBoard.AuthService.Repository.AccountPatchRepository;
 import com.SwitchBoard.AuthService.Repository.AccountRepository;
 import com.SwitchBoard.AuthService.Service.Account.AccountService;
+import com.SwitchBoard.AuthService.Service.AccountIdentityResolver;
+import com.SwitchBoard.AuthService.Service.ReadYourWritesTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -23,39 +44,35 @@ import java.util.UUID;
 public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
+    private final AccountInsertRepository accountInsertRepository;
+    private final AccountPatchRepository accountPatchRepository;
     private final OnboardingEventProducer onboardingEventProducer;
+    private final AccountIdentityResolver accountIdentityResolver;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ObjectMapper objectMapper;
 
+    @Value("${account.page.max-size:500}")
+    private int maxPageSize;
+
+    // The account row and its onboarding outbox event commit together
+    @Transactional
     public ApiResponse createProfile(AccountRequestDto account) {
         log.info("AccountService : createProfile : Creating account for user - {}", account.getName());
         try {
-            if (accountRepository.findByEmail(account.getEmail()).isPresent()) {
-                log.warn("AccountService : createProfile : Email already exists - {}", account.getEmail());
-                throw new IllegalArgumentException("Account creation failed: Email already exists");
+            Account newAccount = newUserAccount(account);
+            log.debug("AccountService : createProfile : Saving new account to database - {}", newAccount.getEmail());
+            // No lookup first: the insert itself skips a taken email, also when two signups race
+            if (accountInsertRepository.insertIfAbsent(List.of(newAccount)).isEmpty()) {
+                log.warn("AccountService : createProfile : Email already exists - {}", newAccount.getEmail());
+                throw new ConflictException("Account creation failed: Email already exists");
             }
-            Account newAccount = Account.builder()
-                    .name(account.getName())
-                    .email(account.getEmail().toLowerCase())
-                    .mobile(account.getMobile())
-                    .linkedinUrl(account.getLinkedinUrl())
-                    .githubUrl(account.getGithubUrl())
-                    .leetcodeUrl(account.getLeetcodeUrl())
-                    .cvPath(account.getCvPath())
-                    .deadline(account.getDeadline())
-                    .aimRole(account.getAimRole())
-                    .currentRole(account.getCurrentRole())
-                    .totalRewardPoints(0)
-                    .taskAssignedCount(0)
-                    .taskCompletedCount(0)
-                    .userRole(Collections.singletonList(USER_ROLE.USER))
-                    .build();
-            log.debug("AccountService : createProfile : Saving new account to database - {}", newAccount);
-            accountRepository.save(newAccount);
+            readYourWritesTracker.markWritten(newAccount.getId(), newAccount.getEmail());
             log.info("AccountService : createProfile : Account created successfully - {}", account.getEmail());
             onboardingEventProducer.publishOnboardingNotification(newAccount.getEmail(), newAccount.getName());
             log.info("AccountService : createProfile : Published onboarding notification for - {}", newAccount.getEmail());
             return ApiResponse.success("Account created successfully for " + account.getName(), true);
-        } catch (IllegalArgumentException e) {
-            log.error("AccountService : createProfile : IllegalArgumentException - {}", e.getMessage());
+        } catch (ConflictException e) {
+            log.error("AccountService : createProfile : ConflictException - {}", e.getMessage());
             throw e;
         } catch (Exception e) {
             log.error("AccountService : createProfile : Unexpected error - {}", e.getMessage(), e);
@@ -63,50 +80,47 @@ public class AccountServiceImpl implements AccountService {
         }
     }
 
-    public ApiResponse updateProfile(UUID accountId, AccountRequestDto updates) {
-        log.info("AccountService : updateProfile : Updating profile for user ID - {}", accountId);
+    /** A new USER account for a signup or an imported row, with its id assigned up front. */
+    public static Account newUserAccount(AccountRequestDto account) {
+        return Account.builder()
+                .id(UUID.randomUUID())
+                .name(account.getName())
+                .email(AccountIdentityResolver.normalize(account.getEmail()))
+                .mobile(account.getMobile())
+                .linkedinUrl(account.getLinkedinUrl())
+                .githubUrl(account.getGithubUrl())
+                .leetcodeUrl(account.getLeetcodeUrl())
+                .cvPath(account.getCvPath())
+                .deadline(account.getDeadline())
+                .aimRole(account.getAimRole())
+                .currentRole(account.getCurrentRole())
+                .totalRewardPoints(0)
+                .taskAssignedCount(0)
+                .taskCompletedCount(0)
+                .userRole(EnumSet.of(USER_ROLE.USER))
+                .build();
+    }
+
+    // One UPDATE of the changed columns on the primary
+    @Transactional
+    public AccountUpdateResult updateProfile(UUID accountId, AccountRequestDto updates, Long expectedVersion) {
+        log.info("AccountService : updateProfile : Updating profile for user ID - {} at version {}", accountId, expectedVersion);
         try {
-            Account user = accountRepository.findById(accountId).orElseThrow(() -> {
-                log.error("AccountService : updateProfile : User not found with ID - {}", accountId);
-                return new RuntimeException("User not found with ID: " + accountId);
+            AccountPatchRepository.PatchedAccount user = accountPatchRepository.patch(accountId, updates, expectedVersion).orElseThrow(() -> {
+                Long currentVersion = accountRepository.findVersionById(accountId).orElseThrow(() -> {
+                    log.error("AccountService : updateProfile : User not found with ID - {}", accountId);
+                    return new ResourceNotFoundException("User not found with ID: " + accountId);
+                });
+                log.warn("AccountService : updateProfile : Version mismatch for user ID - {}, expected {} but is {}",
+                        accountId, expectedVersion, currentVersion);
+                return new PreconditionFailedException("Account " + accountId + " was modified; current version is " + currentVersion);
             });
 
-            log.debug("AccountService : updateProfile : Found user profile - {}", user.getName());
+            accountIdentityResolver.invalidate(user.email());
+            readYourWritesTracker.markWritten(accountId, user.email());
+            log.info("AccountService : updateProfile : User profile updated successfully - {}", user.name());
 
-            if(updates.getAimRole()!= null) {
-                log.debug("AccountService : updateProfile : Updating aimRole from '{}' to '{}'", user.getAimRole(), updates.getAimRole());
-                user.setAimRole(updates.getAimRole());
-            }
-            if(updates.getDeadline() != null) {
-                log.debug("AccountService : updateProfile : Updating deadline from '{}' to '{}'", user.getDeadline(), updates.getDeadline());
-                user.setDeadline(updates.getDeadline());
-            }
-            if(updates.getCurrentRole() != null) {
-                log.debug("AccountService : updateProfile : Updating currentRole from '{}' to '{}'", user.getCurrentRole(), updates.getCurrentRole());
-                user.setCurrentRole(updates.getCurrentRole());
-            }
-            if(updates.getGithubUrl()!=null){
-                log.debug("AccountService : updateProfile : Updating githubUrl from '{}' to '{}'", user.getGithubUrl(), updates.getGithubUrl());
-                user.setGithubUrl(updates.getGithubUrl());
-            }
-            if(updates.getLinkedinUrl()!=null){
-                log.debug("AccountService : updateProfile : Updating linkedinUrl from '{}' to '{}'", user.getLinkedinUrl(), updates.getLinkedinUrl());
-                user.setLinkedinUrl(updates.getLinkedinUrl());
-            }
-            if(updates.getLeetcodeUrl()!=null){
-                log.debug("AccountService : updateProfile : Updating leetcodeUrl from '{}' to '{}'", user.getLeetcodeUrl(), updates.getLeetcodeUrl());
-                user.setLeetcodeUrl(updates.getLeetcodeUrl());
-            }
-            if(updates.getMobile()!= null) {
-                log.debug("AccountService : updateProfile : Updating mobile from '{}' to '{}'", user.getMobile(), updates.getMobile());
-                user.setMobile(updates.getMobile());
-            }
-
-            log.debug("AccountService : updateProfile : Saving updated profile to database");
-            accountRepository.save(user);
-            log.info("AccountService : updateProfile : User profile updated successfully - {}", user.getName());
-
-            return ApiResponse.success("User profile updated successfully for " + user.getName(), true);
+            return new AccountUpdateResult(ApiResponse.success("User profile updated successfully for " + user.name(), true), user.version());
         } catch (RuntimeException e) {
             log.error("AccountService : updateProfile : RuntimeException - {}", e.getMessage());
             throw e;
@@ -116,44 +130,72 @@ public class AccountServiceImpl implements AccountService {
         }
     }
 
-    public List<AccountResponseDto> getAllUsers() {
-        log.info("AccountService : getAllUsers : Retrieving all users from database");
+    @Transactional(readOnly = true)
+    public AccountPageResponseDto getUsersPage(UUID cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        log.info("AccountService : getUsersPage : Retrieving {} users after cursor - {}", pageSize, cursor);
         try {
-            List<Account> accounts = accountRepository.findAll();
-            log.info("AccountService : getAllUsers : Retrieved {} user accounts", accounts.size());
-
-            List<AccountResponseDto> accountResponseDtos = accounts.stream()
-                    .map(account -> AccountResponseDto.builder()
-                            .id(account.getId())
-                            .name(account.getName())
-                            .email(account.getEmail())
-                            .mobile(account.getMobile())
-                            .linkedinUrl(account.getLinkedinUrl())
-                            .githubUrl(account.getGithubUrl())
-                            .leetcodeUrl(account.getLeetcodeUrl())
-                            .cvPath(account.getCvPath())
-                            .deadline(account.getDeadline())
-                            .aimRole(account.getAimRole())
-                            .currentRole(account.getCurrentRole())
-                            .totalRewardPoints(account.getTotalRewardPoints())
-                            .taskAssignedCount(account.getTaskAssignedCount())
-                            .taskCompletedCount(account.getTaskCompletedCount())
-                            .userRole(account.getUserRole())
-                            .build())
-                    .toList();
-
-            log.debug("AccountService : getAllUsers : Converted accounts to DTOs");
-            return accountResponseDtos;
+            // Seek on the primary key instead of OFFSET, so every page costs the same
+            List<AccountView> accounts = cursor == null
+                    ? accountRepository.findAccountViews(Limit.of(pageSize))
+                    : accountRepository.findAccountViewsAfter(cursor, Limit.of(pageSize));
+            log.info("AccountService : getUsersPage : Retrieved {} user accounts", accounts.size());
+
+            UUID nextCursor = accounts.size() < pageSize ? null : accounts.get(accounts.size() - 1).getId();
+            return AccountPageResponseDto.builder()
+                    .items(accounts.stream().map(AccountServiceImpl::toResponseDto).toList())
+                    .nextCursor(nextCursor)
+                    .build();
         } catch (Exception e) {
-            log.error("AccountService : getAllUsers : Error retrieving all users - {}", e.getMessage(), e);
+            log.error("AccountService : getUsersPage : Error retrieving users - {}", e.getMessage(), e);
             throw e;
         }
     }
 
+    @Transactional(readOnly = true)
+    public void exportUsers(OutputStream outputStream) throws IOException {
+        log.info("AccountService : exportUsers : Streaming all users as NDJSON");
+        long count = 0;
+        try (Stream<AccountView> accounts = accountRepository.streamAccountViews();
+             SequenceWriter writer = objectMapper.writerFor(AccountResponseDto.class)
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .withRootValueSeparator("\n")
+                     .writeValues(outputStream)) {
+            for (Iterator<AccountView> iterator = accounts.iterator(); iterator.hasNext(); count++) {
+                writer.write(toResponseDto(iterator.next()));
+            }
+        }
+        log.info("AccountService : exportUsers : Streamed {} user accounts", count);
+    }
+
+    /** Package-private for AccountMappingBenchmark, which measures this exact code from the same package. */
+    static AccountResponseDto toResponseDto(AccountView account) {
+        return AccountResponseDto.builder()
+                .id(account.getId())
+                .name(account.getName())
+                .email(account.getEmail())
+                .mobile(account.getMobile())
+                .linkedinUrl(account.getLinkedinUrl())
+                .githubUrl(account.getGithubUrl())
+                .leetcodeUrl(account.getLeetcodeUrl())
+                .cvPath(account.getCvPath())
+                .deadline(account.getDeadline())
+                .aimRole(account.getAimRole())
+                .currentRole(account.getCurrentRole())
+                .totalRewardPoints(account.getTotalRewardPoints())
+                .taskAssignedCount(account.getTaskAssignedCount())
+                .taskCompletedCount(account.getTaskCompletedCount())
+                .userRole(account.getUserRole())
+                .version(account.getVersion())
+                .build();
+    }
+
     public AccountResponseDto getUser(UUID id) {
         log.info("AccountService : getUser : Retrieving user with ID - {}", id);
         try {
-            Account account = accountRepository.findById(id).orElseThrow(() -> {
+            Account account = (readYourWritesTracker.wroteRecently(id)
+                    ? DataSourceRouting.onPrimary(() -> accountRepository.findById(id))
+                    : accountRepository.findById(id)).orElseThrow(() -> {
                 log.error("AccountService : getUser : User not found with ID - {}", id);
                 return new RuntimeException("User not found with ID: " + id);
             });
@@ -175,6 +217,7 @@ public class AccountServiceImpl implements AccountService {
                     .taskAssignedCount(account.getTaskAssignedCount())
                     .taskCompletedCount(account.getTaskCompletedCount())
                     .userRole(account.getUserRole())
+                    .version(account.getVersion())
                     .build();
         } catch (RuntimeException e) {
             log.error("AccountService : getUser : RuntimeException - {}", e.getMessage());
@@ -0,0 +1,75 @@
+package com.SwitchBoard.AuthService.Service;
+
+import com.SwitchBoard.AuthService.Config.DataSourceRouting;
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.Repository.AccountRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Resolves login identities by email through a bounded, TTL-evicting in-process cache,
+ * falling back to a single projection query on a miss.
+ * Only existing accounts are cached, so a freshly created account is visible on every instance immediately.
+ */
+@Service
+@Slf4j
+public class AccountIdentityResolver {
+
+    private final AccountRepository accountRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Cache<String, AccountIdentity> cache;
+
+    public AccountIdentityResolver(AccountRepository accountRepository, ReadYourWritesTracker readYourWritesTracker,
+                                   @Value("${account.identity-cache.max-size:10000}") long maxSize,
+                                   @Value("${account.identity-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.accountRepository = accountRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<AccountIdentity> findByEmail(String email) {
+        String normalizedEmail = normalize(email);
+        AccountIdentity cached = cache.getIfPresent(normalizedEmail);
+        if (cached != null) {
+            log.debug("AccountIdentityResolver : findByEmail : Cache hit for email - {}", normalizedEmail);
+            return Optional.of(cached);
+        }
+        log.debug("AccountIdentityResolver : findByEmail : Cache miss, querying account identity for email - {}", normalizedEmail);
+        // Just created or changed: the replicas may not have it yet
+        Optional<AccountIdentity> identity = readYourWritesTracker.wroteRecently(normalizedEmail)
+                ? DataSourceRouting.onPrimary(() -> accountRepository.findIdentityByEmail(normalizedEmail))
+                : accountRepository.findIdentityByEmail(normalizedEmail);
+        identity.ifPresent(value -> cache.put(normalizedEmail, value));
+        return identity;
+    }
+
+    /** Cache-only lookup for the reactive resolver, which shares this cache. */
+    AccountIdentity getCached(String normalizedEmail) {
+        return cache.getIfPresent(normalizedEmail);
+    }
+
+    void cache(String normalizedEmail, AccountIdentity identity) {
+        cache.put(normalizedEmail, identity);
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            log.debug("AccountIdentityResolver : invalidate : Evicting cached identity for email - {}", email);
+            cache.invalidate(normalize(email));
+        }
+    }
+
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,42 @@
+package com.SwitchBoard.AuthService.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis-based mutual exclusion for work that must run on one replica at a time.
+ * A lock is a {@code SET NX PX} key owned by a random token; it expires on its own if the holder dies.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DistributedLockService {
+
+    private static final String LOCK_PREFIX = "lock:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<Long> lockReleaseScript;
+
+    /** Try to take the named lock; returns the owner token to pass to {@link #release}, or empty if it is held elsewhere. */
+    public Optional<String> tryAcquire(String name, Duration ttl) {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + name, owner, ttl);
+        log.debug("DistributedLockService : tryAcquire : Lock {} acquired - {}", name, acquired);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(owner) : Optional.empty();
+    }
+
+    public void release(String name, String owner) {
+        Long released = stringRedisTemplate.execute(lockReleaseScript, List.of(LOCK_PREFIX + name), owner);
+        if (released == null || released == 0) {
+            log.warn("DistributedLockService : release : Lock {} had already expired or changed owner", name);
+        }
+    }
+}
@@ -1,36 +1,47 @@
 package com.SwitchBoard.AuthService.Service;
 
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
 import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
 import com.SwitchBoard.AuthService.DTO.Authentication.AuthResponse;
 import com.SwitchBoard.AuthService.Exception.ResourceNotFoundException;
 import com.SwitchBoard.AuthService.Exception.UnauthorizedException;
 import com.SwitchBoard.AuthService.Exception.UnexpectedException;
 import com.SwitchBoard.AuthService.Kafka.Service.impl.OTPEventProducerService;
-import com.SwitchBoard.AuthService.Model.Account;
-import com.SwitchBoard.AuthService.Model.RefreshToken;
-import com.SwitchBoard.AuthService.Repository.AccountRepository;
+import com.SwitchBoard.AuthService.Metrics.AuthMetrics;
+import com.SwitchBoard.AuthService.Model.OtpState;
 import com.SwitchBoard.AuthService.Util.JwtUtil;
+import com.SwitchBoard.AuthService.Util.OtpStateCodec;
 import com.SwitchBoard.AuthService.Util.OtpUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OtpService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    // Results of scripts/otp-verify.lua
+    static final long OTP_VERIFIED = 1L;
+    static final long OTP_MISMATCH = 0L;
+    static final long OTP_NOT_FOUND = -1L;
+    static final long OTP_MAX_ATTEMPTS = -2L;
+
+    private final RedisTemplate<String, byte[]> otpRedisTemplate;
+    private final RedisScript<Long> otpIssueScript;
+    private final RedisScript<Long> otpVerifyScript;
     private final JwtUtil jwtUtil;
-    private final AccountRepository accountRepository;
+    private final AccountIdentityResolver accountIdentityResolver;
     private final OTPEventProducerService otpEventProducerService;
     private final RefreshTokenService refreshTokenService;
+    private final AuthMetrics authMetrics;
 
     @Value("${jwt.expiration}")
     private Long jwtExpiration;
@@ -53,37 +64,35 @@ public class OtpService {
     public ApiResponse generateOtp(String email) {
         log.info("OtpService : generateOtp : Generating OTP for email - {}", email);
         
-        Optional<Account> account=accountRepository.findByEmail(email);
-        if (account.isEmpty()) {
+        if (accountIdentityResolver.findByEmail(email).isEmpty()) {
             log.warn("OtpService : generateOtp : User with email {} not found", email);
             throw new ResourceNotFoundException("User with email " + email + " not found.");
         }
 
-        String key = OTP_PREFIX + email.toLowerCase();
-        String cooldownKey = COOLDOWN_PREFIX + email.toLowerCase();
-
-        if (redisTemplate.hasKey(cooldownKey)) {
-            log.warn("OtpService : generateOtp : Cooldown period active for email - {}", email);
-            throw new UnexpectedException("Please wait before requesting a new OTP.");
-        }
-
-        log.debug("OtpService : generateOtp : Deleting any existing OTP for email - {}", email);
-        redisTemplate.delete(key);
+        String key = otpKey(OTP_PREFIX, email);
+        String cooldownKey = otpKey(COOLDOWN_PREFIX, email);
 
         String otp = OtpUtils.generateOtp();
-        String hashedOtp = OtpUtils.hashOtp(otp);
+        OtpState state = OtpState.builder()
+                .digest(OtpUtils.digestOtp(otp))
+                .attempts(0)
+                .issuedAt(Instant.now())
+                .build();
         log.debug("OtpService : generateOtp : OTP generated for email - {}", email);
 
+        // Cooldown check, OTP write with TTL and cooldown set happen atomically in one round trip
         log.debug("OtpService : generateOtp : Storing OTP in Redis");
-        redisTemplate.opsForHash().put(key, "hash", hashedOtp);
-        redisTemplate.opsForHash().put(key, "attempts", 0);
-        redisTemplate.expire(key, OTP_TTL_MINUTES, TimeUnit.MINUTES);
-
-        log.debug("OtpService : generateOtp : Setting cooldown for email - {}", email);
-        redisTemplate.opsForValue().set(cooldownKey, "1", Duration.ofSeconds(COOLDOWN_SECONDS));
+        Long issued = otpRedisTemplate.execute(otpIssueScript, List.of(key, cooldownKey),
+                OtpStateCodec.encode(state), arg(OTP_TTL_MINUTES * 60L), arg(COOLDOWN_SECONDS));
+        if (issued == null || issued == 0L) {
+            log.warn("OtpService : generateOtp : Cooldown period active for email - {}", email);
+            authMetrics.otpCooldownRejected();
+            throw new UnexpectedException("Please wait before requesting a new OTP.");
+        }
 
         // (In real project: Send OTP via Email/SMS)
         otpEventProducerService.publishOTPNotification(email,otp);
+        authMetrics.otpIssued();
         log.info("OtpService : generateOtp : OTP sent successfully to email - {}", email);
         return ApiResponse.success("OTP sent successfully to " + email, true);
     }
@@ -91,53 +100,66 @@ public class OtpService {
     public AuthResponse validateOtp(String email, String otp) throws Exception {
         log.info("OtpService : validateOtp : Validating OTP for email - {}", email);
 
-        String key = OTP_PREFIX + email.toLowerCase();
+        String key = otpKey(OTP_PREFIX, email);
 
-        if (!redisTemplate.hasKey(key)) {
+        // Compare, attempt counting and invalidation run atomically, so concurrent guesses cannot exceed MAX_ATTEMPTS
+        byte[] digest = OtpUtils.digestOtp(otp);
+        Long result = otpRedisTemplate.execute(otpVerifyScript, List.of(key),
+                digest, arg(MAX_ATTEMPTS));
+        long outcome = result == null ? OTP_NOT_FOUND : result;
+        authMetrics.otpVerification(outcomeName(outcome));
+
+        if (outcome == OTP_NOT_FOUND) {
             log.warn("OtpService : validateOtp : OTP expired or not found for email - {}", email);
             throw new ResourceNotFoundException("OTP expired or not found. Please request a new one.");
         }
-
-        String hashedOtp = (String) redisTemplate.opsForHash().get(key, "hash");
-        Integer attempts = (Integer) redisTemplate.opsForHash().get(key, "attempts");
-
-        if (attempts == null) attempts = 0;
-        log.debug("OtpService : validateOtp : Current attempt count - {}", attempts);
-
-        if (attempts >= MAX_ATTEMPTS) {
+        if (outcome == OTP_MAX_ATTEMPTS) {
             log.warn("OtpService : validateOtp : Maximum attempts exceeded for email - {}", email);
-            redisTemplate.delete(key);
             throw new UnauthorizedException("Maximum attempts exceeded. OTP invalidated. Please request a new one.");
         }
-
-        if (hashedOtp != null && hashedOtp.equals(OtpUtils.hashOtp(otp))) {
-            log.info("OtpService : validateOtp : OTP verified successfully for email - {}", email);
-            redisTemplate.delete(key);
-            
-            log.debug("OtpService : validateOtp : Retrieving user information");
-            Account account = accountRepository.findByEmail(email).orElse(null);
-            if (account == null) {
-                log.error("OtpService : validateOtp : User with email {} not found after OTP validation", email);
-                throw new ResourceNotFoundException("User with email " + email + " not found.");
-            }
-            
-            log.debug("OtpService : validateOtp : Generating JWT token");
-            String jwtString = jwtUtil.generateToken(email, account.getName(), account.getId(), account.getUserRole());
-            
-            log.debug("OtpService : validateOtp : Creating refresh token");
-            RefreshToken refreshToken = refreshTokenService.createRefreshToken(account);
-            
-            log.info("OtpService : validateOtp : Tokens generated successfully");
-            
-            return AuthResponse.builder()
-                    .accessToken(jwtString)
-                    .refreshToken(refreshToken.getToken())
-                    .expiresIn(jwtExpiration)
-                    .build();
-        } else {
+        if (outcome == OTP_MISMATCH) {
             log.warn("OtpService : validateOtp : Invalid OTP provided for email - {}", email);
-            redisTemplate.opsForHash().put(key, "attempts", attempts + 1);
             throw new UnauthorizedException("Invalid OTP. Please try again.");
         }
+
+        log.info("OtpService : validateOtp : OTP verified successfully for email - {}", email);
+        log.debug("OtpService : validateOtp : Retrieving user information");
+        AccountIdentity account = accountIdentityResolver.findByEmail(email).orElseThrow(() -> {
+            log.error("OtpService : validateOtp : User with email {} not found after OTP validation", email);
+            return new ResourceNotFoundException("User with email " + email + " not found.");
+        });
+        
+        log.debug("OtpService : validateOtp : Generating JWT token");
+        String jwtString = jwtUtil.generateToken(account.getEmail(), account.getName(), account.getId(), account.getUserRole());
+        
+        log.debug("OtpService : validateOtp : Creating refresh token");
+        String refreshToken = refreshTokenService.createRefreshToken(account);
+        
+        log.info("OtpService : validateOtp : Tokens generated successfully");
+        
+        return AuthResponse.builder()
+                .accessToken(jwtString)
+                .refreshToken(refreshToken)
+                .expiresIn(jwtExpiration)
+                .build();
+    }
+
+    static String outcomeName(long outcome) {
+        if (outcome == OTP_VERIFIED) return "verified";
+        if (outcome == OTP_MISMATCH) return "mismatch";
+        if (outcome == OTP_MAX_ATTEMPTS) return "max_attempts";
+        return "not_found";
+    }
+
+    /**
+     * The normalized email is the hash tag of both keys, so the issue script's OTP and cooldown keys
+     * map to the same Redis Cluster slot.
+     */
+    static String otpKey(String prefix, String email) {
+        return prefix + "{" + AccountIdentityResolver.normalize(email) + "}";
+    }
+
+    static byte[] arg(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
     }
 }
@@ -0,0 +1,44 @@
+package com.SwitchBoard.AuthService.Service;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.Model.UserRoleConverter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive lookup of login identities. Shares the in-process cache of {@link AccountIdentityResolver},
+ * so invalidations from the account endpoints apply to both, and misses go to R2DBC instead of JPA.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAccountIdentityResolver {
+
+    private static final String IDENTITY_SQL = "SELECT id, email, name, user_roles FROM account WHERE email = :email";
+
+    private final AccountIdentityResolver accountIdentityResolver;
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Mono<AccountIdentity> findByEmail(String email) {
+        String normalizedEmail = AccountIdentityResolver.normalize(email);
+        AccountIdentity cached = accountIdentityResolver.getCached(normalizedEmail);
+        if (cached != null) {
+            log.debug("ReactiveAccountIdentityResolver : findByEmail : Cache hit for email - {}", normalizedEmail);
+            return Mono.just(cached);
+        }
+        log.debug("ReactiveAccountIdentityResolver : findByEmail : Cache miss, querying account identity for email - {}", normalizedEmail);
+        return reactiveDatabaseClient.sql(IDENTITY_SQL)
+                .bind("email", normalizedEmail)
+                .map(row -> new AccountIdentity(row.get("id", UUID.class), row.get("email", String.class),
+                        row.get("name", String.class), UserRoleConverter.fromMask(row.get("user_roles", Short.class))))
+                .first()
+                .doOnNext(identity -> accountIdentityResolver.cache(normalizedEmail, identity));
+    }
+}
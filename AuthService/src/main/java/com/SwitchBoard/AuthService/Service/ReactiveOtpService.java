@@ -0,0 +1,166 @@
+package com.SwitchBoard.AuthService.Service;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Authentication.ApiResponse;
+import com.SwitchBoard.AuthService.DTO.Authentication.AuthResponse;
+import com.SwitchBoard.AuthService.Exception.ResourceNotFoundException;
+import com.SwitchBoard.AuthService.Exception.UnauthorizedException;
+import com.SwitchBoard.AuthService.Exception.UnexpectedException;
+import com.SwitchBoard.AuthService.Kafka.Service.impl.ReactiveOtpEventSender;
+import com.SwitchBoard.AuthService.Metrics.AuthMetrics;
+import com.SwitchBoard.AuthService.Model.OtpState;
+import com.SwitchBoard.AuthService.Util.JwtUtil;
+import com.SwitchBoard.AuthService.Util.OtpStateCodec;
+import com.SwitchBoard.AuthService.Util.OtpUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static com.SwitchBoard.AuthService.Service.OtpService.OTP_MAX_ATTEMPTS;
+import static com.SwitchBoard.AuthService.Service.OtpService.OTP_MISMATCH;
+import static com.SwitchBoard.AuthService.Service.OtpService.OTP_NOT_FOUND;
+import static com.SwitchBoard.AuthService.Service.OtpService.arg;
+import static com.SwitchBoard.AuthService.Service.OtpService.otpKey;
+
+/**
+ * Non-blocking version of {@link OtpService} for the {@code reactive} profile. Same Redis scripts and
+ * keys; the account lookup runs concurrently with the cooldown check (send) or the OTP check (verify)
+ * instead of after it. Token signing is CPU work and is moved off the event loop.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveOtpService {
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveOtpRedisTemplate;
+    private final RedisScript<Long> otpIssueScript;
+    private final RedisScript<Long> otpVerifyScript;
+    private final JwtUtil jwtUtil;
+    private final ReactiveAccountIdentityResolver reactiveAccountIdentityResolver;
+    private final ReactiveOtpEventSender reactiveOtpEventSender;
+    private final ReactiveRefreshTokenService reactiveRefreshTokenService;
+    private final AuthMetrics authMetrics;
+
+    @Value("${jwt.expiration}")
+    private Long jwtExpiration;
+
+    @Value("${otp.prefix}")
+    private String OTP_PREFIX;
+
+    @Value("${otp.cooldown.prefix}")
+    private String COOLDOWN_PREFIX;
+
+    @Value("${otp.ttl.minutes}")
+    private int OTP_TTL_MINUTES;
+
+    @Value("${otp.cooldown.seconds}")
+    private int COOLDOWN_SECONDS;
+
+    @Value("${otp.max.attempts}")
+    private int MAX_ATTEMPTS;
+
+    public Mono<ApiResponse> generateOtp(String email) {
+        log.info("ReactiveOtpService : generateOtp : Generating OTP for email - {}", email);
+        String key = otpKey(OTP_PREFIX, email);
+        String cooldownKey = otpKey(COOLDOWN_PREFIX, email);
+
+        // Fail fast on either; the issue script re-checks the cooldown atomically
+        Mono<Boolean> accountExists = reactiveAccountIdentityResolver.findByEmail(email).hasElement();
+        Mono<Boolean> coolingDown = reactiveOtpRedisTemplate.hasKey(cooldownKey);
+
+        return Mono.zip(accountExists, coolingDown).flatMap(checks -> {
+            if (!checks.getT1()) {
+                log.warn("ReactiveOtpService : generateOtp : User with email {} not found", email);
+                return Mono.error(new ResourceNotFoundException("User with email " + email + " not found."));
+            }
+            if (checks.getT2()) {
+                log.warn("ReactiveOtpService : generateOtp : Cooldown period active for email - {}", email);
+                authMetrics.otpCooldownRejected();
+                return Mono.error(new UnexpectedException("Please wait before requesting a new OTP."));
+            }
+            String otp = OtpUtils.generateOtp();
+            OtpState state = OtpState.builder()
+                    .digest(OtpUtils.digestOtp(otp))
+                    .attempts(0)
+                    .issuedAt(Instant.now())
+                    .build();
+            return reactiveOtpRedisTemplate.execute(otpIssueScript, List.of(key, cooldownKey),
+                            List.of(OtpStateCodec.encode(state), arg(OTP_TTL_MINUTES * 60L), arg(COOLDOWN_SECONDS)))
+                    .next()
+                    .defaultIfEmpty(0L)
+                    .flatMap(issued -> {
+                        if (issued == 0L) {
+                            log.warn("ReactiveOtpService : generateOtp : Cooldown period active for email - {}", email);
+                            authMetrics.otpCooldownRejected();
+                            return Mono.error(new UnexpectedException("Please wait before requesting a new OTP."));
+                        }
+                        return reactiveOtpEventSender.publishOTPNotification(email, otp)
+                                .doOnSuccess(sent -> authMetrics.otpIssued());
+                    });
+        }).then(Mono.fromSupplier(() -> {
+            log.info("ReactiveOtpService : generateOtp : OTP sent successfully to email - {}", email);
+            return ApiResponse.success("OTP sent successfully to " + email, true);
+        }));
+    }
+
+    public Mono<AuthResponse> validateOtp(String email, String otp) {
+        log.info("ReactiveOtpService : validateOtp : Validating OTP for email - {}", email);
+        String key = otpKey(OTP_PREFIX, email);
+        byte[] digest = OtpUtils.digestOtp(otp);
+
+        Mono<Long> outcome = reactiveOtpRedisTemplate.execute(otpVerifyScript, List.of(key),
+                        List.of(digest, arg(MAX_ATTEMPTS)))
+                .next()
+                .defaultIfEmpty(OTP_NOT_FOUND);
+        Mono<Optional<AccountIdentity>> account = reactiveAccountIdentityResolver.findByEmail(email)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+
+        return Mono.zip(outcome, account).flatMap(results -> {
+            long result = results.getT1();
+            authMetrics.otpVerification(OtpService.outcomeName(result));
+            if (result == OTP_NOT_FOUND) {
+                log.warn("ReactiveOtpService : validateOtp : OTP expired or not found for email - {}", email);
+                return Mono.error(new ResourceNotFoundException("OTP expired or not found. Please request a new one."));
+            }
+            if (result == OTP_MAX_ATTEMPTS) {
+                log.warn("ReactiveOtpService : validateOtp : Maximum attempts exceeded for email - {}", email);
+                return Mono.error(new UnauthorizedException("Maximum attempts exceeded. OTP invalidated. Please request a new one."));
+            }
+            if (result == OTP_MISMATCH) {
+                log.warn("ReactiveOtpService : validateOtp : Invalid OTP provided for email - {}", email);
+                return Mono.error(new UnauthorizedException("Invalid OTP. Please try again."));
+            }
+            if (results.getT2().isEmpty()) {
+                log.error("ReactiveOtpService : validateOtp : User with email {} not found after OTP validation", email);
+                return Mono.error(new ResourceNotFoundException("User with email " + email + " not found."));
+            }
+            log.info("ReactiveOtpService : validateOtp : OTP verified successfully for email - {}", email);
+            return issueTokens(results.getT2().get());
+        });
+    }
+
+    /** New access token plus a rotated refresh token; the two are independent and run concurrently. */
+    public Mono<AuthResponse> issueTokens(AccountIdentity account) {
+        Mono<String> accessToken = Mono.fromCallable(() -> jwtUtil.generateToken(
+                        account.getEmail(), account.getName(), account.getId(), account.getUserRole()))
+                .subscribeOn(Schedulers.parallel());
+        return Mono.zip(accessToken, reactiveRefreshTokenService.createRefreshToken(account))
+                .map(tokens -> AuthResponse.builder()
+                        .accessToken(tokens.getT1())
+                        .refreshToken(tokens.getT2())
+                        .expiresIn(jwtExpiration)
+                        .build());
+    }
+}
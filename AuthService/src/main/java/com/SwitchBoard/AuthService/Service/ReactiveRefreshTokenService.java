@@ -0,0 +1,45 @@
+package com.SwitchBoard.AuthService.Service;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
+import com.SwitchBoard.AuthService.Service.RefreshToken.ReactiveRefreshTokenStore;
+import com.SwitchBoard.AuthService.Service.RefreshToken.RevokedTokenFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/** Reactive counterpart of {@link RefreshTokenService}, sharing its token format and revocation filter. */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveRefreshTokenService {
+
+    private final ReactiveRefreshTokenStore reactiveRefreshTokenStore;
+    private final RevokedTokenFilter revokedTokenFilter;
+
+    @Value("${jwt.refresh-expiration}")
+    private Long refreshTokenExpiration;
+
+    public Mono<String> createRefreshToken(AccountIdentity account) {
+        String tokenValue = RefreshTokenService.generateRefreshTokenValue();
+        return reactiveRefreshTokenStore.save(RefreshTokenService.hashToken(tokenValue), account, Duration.ofSeconds(refreshTokenExpiration))
+                .thenReturn(tokenValue)
+                .doOnSuccess(token -> log.info("ReactiveRefreshTokenService : createRefreshToken : Refresh token created successfully for account - {}", account.getId()));
+    }
+
+    public Mono<RefreshTokenGrant> consume(String token) {
+        byte[] tokenHash = RefreshTokenService.hashToken(token);
+        if (revokedTokenFilter.mightContain(tokenHash)) {
+            log.warn("ReactiveRefreshTokenService : consume : Rejected previously used refresh token");
+            return Mono.empty();
+        }
+        return reactiveRefreshTokenStore.consume(tokenHash)
+                .doOnNext(consumed -> revokedTokenFilter.add(tokenHash));
+    }
+}
@@ -0,0 +1,91 @@
+package com.SwitchBoard.AuthService.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers accounts written in the last few moments, so that reads of them go to the primary until the
+ * replicas have replayed the write (see {@link com.SwitchBoard.AuthService.Config.DataSourceRouting}).
+ * Kept in Redis because the follow-up request, e.g. send-otp after create, may reach another instance.
+ * Does nothing when no replicas are configured.
+ */
+@Service
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String PREFIX = "ryw:";
+    private static final byte[] MARK = "1".getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    // A replica in rotation was at most max-lag behind at its last check; doubled to cover the wait for the next one
+    private final Duration window;
+
+    public ReadYourWritesTracker(StringRedisTemplate stringRedisTemplate,
+                                 @Value("${app.datasource.replica.urls:}") String replicaUrls,
+                                 @Value("${app.datasource.replica.max-lag-ms:1000}") long maxLagMs,
+                                 @Value("${app.datasource.replica.lag-check-interval-ms:500}") long lagCheckIntervalMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = StringUtils.hasText(replicaUrls);
+        this.window = Duration.ofMillis(2 * (maxLagMs + lagCheckIntervalMs));
+    }
+
+    public void markWritten(UUID accountId, String email) {
+        markWritten(Map.of(accountId, email));
+    }
+
+    /** Marks every account in one pipelined round trip, for bulk writes. */
+    public void markWritten(Map<UUID, String> emailsById) {
+        if (!enabled || emailsById.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                emailsById.forEach((accountId, email) -> {
+                    mark(connection, PREFIX + "account:" + accountId);
+                    mark(connection, PREFIX + "email:" + AccountIdentityResolver.normalize(email));
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("ReadYourWritesTracker : markWritten : Could not record write for {} account(s) - {}", emailsById.size(), e.getMessage());
+        }
+    }
+
+    public boolean wroteRecently(UUID accountId) {
+        return isMarked(PREFIX + "account:" + accountId);
+    }
+
+    public boolean wroteRecently(String email) {
+        return isMarked(PREFIX + "email:" + AccountIdentityResolver.normalize(email));
+    }
+
+    private void mark(RedisConnection connection, String key) {
+        connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8), MARK, Expiration.from(window),
+                RedisStringCommands.SetOption.upsert());
+    }
+
+    private boolean isMarked(String key) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+        } catch (RuntimeException e) {
+            // The primary is always current
+            return true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.SwitchBoard.AuthService.Service.RefreshToken;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking counterpart of {@link RefreshTokenStore} for the {@code reactive} profile,
+ * with the same data layout, so both variants can serve the same tokens.
+ */
+public interface ReactiveRefreshTokenStore {
+
+    /** Store a newly issued token; any token the account held before stops being valid. */
+    Mono<Void> save(byte[] tokenHash, AccountIdentity account, Duration ttl);
+
+    /** Atomically invalidate a live token and emit who it was issued to; empty if unknown, expired or already used. */
+    Mono<RefreshTokenGrant> consume(byte[] tokenHash);
+}
@@ -0,0 +1,128 @@
+package com.SwitchBoard.AuthService.Service.RefreshToken;
+
+import com.SwitchBoard.AuthService.Repository.RefreshTokenRepository;
+import com.SwitchBoard.AuthService.Service.DistributedLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Deletes expired and revoked rows from {@code refresh_tokens} in small batches.
+ * Each batch is its own short transaction and skips rows locked by other writers, so the
+ * purge never holds long locks. Runs are jittered and guarded by a distributed lock so that
+ * replicas started together do not all purge at once.
+ */
+@Component
+@Slf4j
+public class RefreshTokenPurgeJob implements SchedulingConfigurer {
+
+    private static final String LOCK_NAME = "refresh-token-purge";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final DistributedLockService distributedLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purgedRows;
+    private final Timer purgeDuration;
+
+    @Value("${refresh-token.purge.interval-ms:3600000}")
+    private long intervalMs;
+
+    @Value("${refresh-token.purge.jitter-ms:300000}")
+    private long jitterMs;
+
+    @Value("${refresh-token.purge.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${refresh-token.purge.max-batches:200}")
+    private int maxBatches;
+
+    @Value("${refresh-token.purge.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    @Value("${refresh-token.purge.lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepository refreshTokenRepository,
+                                DistributedLockService distributedLockService,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.distributedLockService = distributedLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.purgedRows = Counter.builder("refresh_tokens.purged")
+                .description("Expired or revoked refresh token rows deleted")
+                .register(meterRegistry);
+        this.purgeDuration = Timer.builder("refresh_tokens.purge.duration")
+                .description("Time spent in a refresh token purge run")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addTriggerTask(this::purge, new JitteredTrigger());
+    }
+
+    public void purge() {
+        Optional<String> lock;
+        try {
+            lock = distributedLockService.tryAcquire(LOCK_NAME, Duration.ofMillis(lockTtlMs));
+        } catch (Exception e) {
+            log.error("RefreshTokenPurgeJob : purge : Could not reach lock store, skipping run - {}", e.getMessage());
+            return;
+        }
+        if (lock.isEmpty()) {
+            log.info("RefreshTokenPurgeJob : purge : Purge already running on another instance");
+            return;
+        }
+        long start = System.nanoTime();
+        long total = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                Integer deleted = transactionTemplate.execute(status ->
+                        refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now(), batchSize));
+                int rows = deleted == null ? 0 : deleted;
+                total += rows;
+                purgedRows.increment(rows);
+                if (rows < batchSize) {
+                    break;
+                }
+                Thread.sleep(batchPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("RefreshTokenPurgeJob : purge : Purge stopped after {} rows - {}", total, e.getMessage(), e);
+        } finally {
+            distributedLockService.release(LOCK_NAME, lock.get());
+            long elapsed = System.nanoTime() - start;
+            purgeDuration.record(Duration.ofNanos(elapsed));
+            log.info("RefreshTokenPurgeJob : purge : Deleted {} refresh tokens in {} ms", total, elapsed / 1_000_000);
+        }
+    }
+
+    /** Fixed delay after the previous run, plus up to {@code jitter-ms} of random delay. */
+    private class JitteredTrigger implements Trigger {
+
+        @Override
+        public Instant nextExecution(TriggerContext triggerContext) {
+            Instant lastCompletion = triggerContext.lastCompletion();
+            Instant base = lastCompletion == null ? Instant.now() : lastCompletion;
+            long jitter = jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs) : 0;
+            return base.plusMillis(intervalMs + jitter);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.SwitchBoard.AuthService.Service.RefreshToken;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Persistence for refresh tokens, keyed by the SHA-256 digest of the token value.
+ * Selected with {@code refresh-token.store} ({@code jpa} or {@code redis}).
+ */
+public interface RefreshTokenStore {
+
+    /** Store a newly issued token; any token the account held before stops being valid. */
+    void save(byte[] tokenHash, AccountIdentity account, Duration ttl);
+
+    /** Atomically invalidate a live token and return who it was issued to; empty if unknown, expired or already used. */
+    Optional<RefreshTokenGrant> consume(byte[] tokenHash);
+}
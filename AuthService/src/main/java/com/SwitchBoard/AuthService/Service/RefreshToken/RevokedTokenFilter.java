@@ -0,0 +1,88 @@
+package com.SwitchBoard.AuthService.Service.RefreshToken;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Local bloom filter of refresh token digests this instance has already consumed.
+ * Replayed tokens are rejected without a round trip to the token store. The filter is
+ * split into two generations rotated every refresh-token lifetime, so an entry is kept
+ * at least as long as the token it describes could have lived.
+ * A false positive rejects a valid token, so the default rate is kept very low.
+ */
+@Component
+@Slf4j
+public class RevokedTokenFilter {
+
+    private final int hashFunctions;
+    private final long bitCount;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public RevokedTokenFilter(
+            @Value("${refresh-token.revocation-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${refresh-token.revocation-filter.false-positive-rate:0.000001}") double falsePositiveRate) {
+        this.bitCount = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.current = new Generation(bitCount);
+        this.previous = new Generation(bitCount);
+        log.info("RevokedTokenFilter : init : {} bits per generation, {} hash functions", bitCount, hashFunctions);
+    }
+
+    /** Record a consumed token digest (a SHA-256 output, used directly as the hash source). */
+    public void add(byte[] tokenHash) {
+        current.add(tokenHash);
+    }
+
+    public boolean mightContain(byte[] tokenHash) {
+        return current.contains(tokenHash) || previous.contains(tokenHash);
+    }
+
+    @Scheduled(initialDelayString = "#{${jwt.refresh-expiration} * 1000}", fixedRateString = "#{${jwt.refresh-expiration} * 1000}")
+    public void rotate() {
+        previous = current;
+        current = new Generation(bitCount);
+        log.info("RevokedTokenFilter : rotate : Started a new filter generation");
+    }
+
+    private final class Generation {
+
+        private final AtomicLongArray words;
+
+        private Generation(long bits) {
+            this.words = new AtomicLongArray((int) ((bits + 63) >>> 6));
+        }
+
+        private void add(byte[] tokenHash) {
+            long h1 = ByteBuffer.wrap(tokenHash).getLong(0);
+            long h2 = ByteBuffer.wrap(tokenHash).getLong(8);
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word;
+                while (((word = words.get(index)) & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    // another thread updated the word concurrently; retry
+                }
+            }
+        }
+
+        private boolean contains(byte[] tokenHash) {
+            long h1 = ByteBuffer.wrap(tokenHash).getLong(0);
+            long h2 = ByteBuffer.wrap(tokenHash).getLong(8);
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.SwitchBoard.AuthService.Service.RefreshToken.impl;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
+import com.SwitchBoard.AuthService.Model.Account;
+import com.SwitchBoard.AuthService.Model.RefreshToken;
+import com.SwitchBoard.AuthService.Repository.AccountRepository;
+import com.SwitchBoard.AuthService.Repository.RefreshTokenRepository;
+import com.SwitchBoard.AuthService.Service.RefreshToken.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AccountRepository accountRepository;
+
+    @Override
+    public void save(byte[] tokenHash, AccountIdentity account, Duration ttl) {
+        // A reference is enough for the foreign key; the account row is never loaded
+        Account reference = accountRepository.getReferenceById(account.getId());
+        refreshTokenRepository.revokeAllTokensByAccount(reference);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .account(reference)
+                .expiryDate(LocalDateTime.now().plus(ttl))
+                .build());
+        log.debug("JpaRefreshTokenStore : save : Refresh token stored for account - {}", account.getId());
+    }
+
+    @Override
+    public Optional<RefreshTokenGrant> consume(byte[] tokenHash) {
+        // The conditional update is the atomic check: only one concurrent caller can flip the flag
+        if (refreshTokenRepository.revokeValidToken(tokenHash, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        return refreshTokenRepository.findGrantByTokenHash(tokenHash);
+    }
+}
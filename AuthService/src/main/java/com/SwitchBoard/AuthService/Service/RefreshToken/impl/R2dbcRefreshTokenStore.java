@@ -0,0 +1,62 @@
+package com.SwitchBoard.AuthService.Service.RefreshToken.impl;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
+import com.SwitchBoard.AuthService.Service.RefreshToken.ReactiveRefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reactive variant of {@link JpaRefreshTokenStore} over {@code refresh_tokens}. Each operation is
+ * one statement, so it is atomic without a reactive transaction manager: revoking the account's
+ * previous tokens rides along with the insert in a CTE, and consuming returns the owner directly.
+ */
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class R2dbcRefreshTokenStore implements ReactiveRefreshTokenStore {
+
+    private static final String SAVE_SQL = "WITH revoked AS (" +
+            "UPDATE refresh_tokens SET is_revoked = true WHERE account_id = :accountId AND NOT is_revoked) " +
+            "INSERT INTO refresh_tokens (id, token_hash, account_id, expiry_date, created_at, is_revoked) " +
+            "VALUES (:id, :tokenHash, :accountId, :expiryDate, :createdAt, false)";
+
+    private static final String CONSUME_SQL = "UPDATE refresh_tokens rt SET is_revoked = true FROM account a " +
+            "WHERE rt.token_hash = :tokenHash AND NOT rt.is_revoked AND rt.expiry_date > :currentTime AND a.id = rt.account_id " +
+            "RETURNING a.id, a.email";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    @Override
+    public Mono<Void> save(byte[] tokenHash, AccountIdentity account, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        return reactiveDatabaseClient.sql(SAVE_SQL)
+                .bind("id", UUID.randomUUID())
+                .bind("tokenHash", tokenHash)
+                .bind("accountId", account.getId())
+                .bind("expiryDate", now.plus(ttl))
+                .bind("createdAt", now)
+                .then()
+                .doOnSuccess(done -> log.debug("R2dbcRefreshTokenStore : save : Refresh token stored for account - {}", account.getId()));
+    }
+
+    @Override
+    public Mono<RefreshTokenGrant> consume(byte[] tokenHash) {
+        return reactiveDatabaseClient.sql(CONSUME_SQL)
+                .bind("tokenHash", tokenHash)
+                .bind("currentTime", LocalDateTime.now())
+                .map(row -> new RefreshTokenGrant(row.get("id", UUID.class), row.get("email", String.class)))
+                .first();
+    }
+}
@@ -0,0 +1,59 @@
+package com.SwitchBoard.AuthService.Service.RefreshToken.impl;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
+import com.SwitchBoard.AuthService.Service.RefreshToken.ReactiveRefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/** Reactive variant of {@link RedisRefreshTokenStore}; same keys, same commands. */
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveRedisRefreshTokenStore implements ReactiveRefreshTokenStore {
+
+    private static final int UUID_LENGTH = 36;
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final Optional<RefreshTokenAuditSink> auditSink;
+
+    @Value("${refresh-token.redis.prefix:rt:}")
+    private String prefix;
+
+    @Override
+    public Mono<Void> save(byte[] tokenHash, AccountIdentity account, Duration ttl) {
+        String hash = Hex.encodeHexString(tokenHash);
+        return reactiveStringRedisTemplate.opsForValue().set(prefix + hash, account.getId() + " " + account.getEmail(), ttl)
+                .then(reactiveStringRedisTemplate.opsForValue().setGet(prefix + "account:" + account.getId(), hash, ttl))
+                .filter(previous -> !previous.equals(hash))
+                .flatMap(previous -> reactiveStringRedisTemplate.delete(prefix + previous))
+                .then()
+                .doOnSuccess(done -> {
+                    log.debug("ReactiveRedisRefreshTokenStore : save : Refresh token stored for account - {}", account.getId());
+                    auditSink.ifPresent(sink -> sink.recordIssued(tokenHash, account.getId(), ttl));
+                });
+    }
+
+    @Override
+    public Mono<RefreshTokenGrant> consume(byte[] tokenHash) {
+        return reactiveStringRedisTemplate.opsForValue().getAndDelete(prefix + Hex.encodeHexString(tokenHash))
+                .filter(value -> value.length() > UUID_LENGTH)
+                .map(value -> {
+                    auditSink.ifPresent(sink -> sink.recordConsumed(tokenHash));
+                    return new RefreshTokenGrant(UUID.fromString(value.substring(0, UUID_LENGTH)), value.substring(UUID_LENGTH + 1));
+                });
+    }
+}
@@ -0,0 +1,62 @@
+package com.SwitchBoard.AuthService.Service.RefreshToken.impl;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
+import com.SwitchBoard.AuthService.Service.RefreshToken.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps refresh tokens in Redis and lets Redis expire them.
+ * {@code <prefix><hex digest>} holds {@code "<accountId> <email>"}; {@code <prefix>account:<accountId>}
+ * points at the account's current token so issuing a new one drops the old one.
+ * Every command touches a single key, so the two keys may live in different cluster slots.
+ */
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int UUID_LENGTH = 36;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Optional<RefreshTokenAuditSink> auditSink;
+
+    @Value("${refresh-token.redis.prefix:rt:}")
+    private String prefix;
+
+    @Override
+    public void save(byte[] tokenHash, AccountIdentity account, Duration ttl) {
+        String hash = Hex.encodeHexString(tokenHash);
+        stringRedisTemplate.opsForValue().set(prefix + hash, account.getId() + " " + account.getEmail(), ttl);
+        // SET ... GET swaps the pointer atomically, so of two concurrent saves only one sees no predecessor
+        // to drop and the account still ends up with a single live token
+        String previous = stringRedisTemplate.opsForValue().setGet(prefix + "account:" + account.getId(), hash, ttl);
+        if (previous != null && !previous.equals(hash)) {
+            stringRedisTemplate.delete(prefix + previous);
+        }
+        log.debug("RedisRefreshTokenStore : save : Refresh token stored for account - {}", account.getId());
+        auditSink.ifPresent(sink -> sink.recordIssued(tokenHash, account.getId(), ttl));
+    }
+
+    @Override
+    public Optional<RefreshTokenGrant> consume(byte[] tokenHash) {
+        String value = stringRedisTemplate.opsForValue().getAndDelete(prefix + Hex.encodeHexString(tokenHash));
+        if (value == null || value.length() <= UUID_LENGTH) {
+            return Optional.empty();
+        }
+        auditSink.ifPresent(sink -> sink.recordConsumed(tokenHash));
+        return Optional.of(new RefreshTokenGrant(
+                UUID.fromString(value.substring(0, UUID_LENGTH)), value.substring(UUID_LENGTH + 1)));
+    }
+}
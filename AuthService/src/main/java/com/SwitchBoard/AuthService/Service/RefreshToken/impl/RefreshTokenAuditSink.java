@@ -0,0 +1,86 @@
+package com.SwitchBoard.AuthService.Service.RefreshToken.impl;
+
+import com.SwitchBoard.AuthService.Model.Account;
+import com.SwitchBoard.AuthService.Model.RefreshToken;
+import com.SwitchBoard.AuthService.Repository.AccountRepository;
+import com.SwitchBoard.AuthService.Repository.RefreshTokenRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mirrors Redis-held refresh tokens into {@code refresh_tokens} for auditing.
+ * Writes happen on a single background thread behind a bounded queue; when the database
+ * falls behind, audit records are dropped rather than slowing down the refresh path.
+ */
+@Component
+@ConditionalOnProperty(name = "refresh-token.audit.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenAuditSink {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${refresh-token.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "refresh-token-audit");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("RefreshTokenAuditSink : submit : Audit queue full, dropping record"));
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public void recordIssued(byte[] tokenHash, UUID accountId, Duration ttl) {
+        LocalDateTime expiryDate = LocalDateTime.now().plus(ttl);
+        submit(() -> {
+            Account reference = accountRepository.getReferenceById(accountId);
+            refreshTokenRepository.revokeAllTokensByAccount(reference);
+            refreshTokenRepository.save(RefreshToken.builder()
+                    .tokenHash(tokenHash)
+                    .account(reference)
+                    .expiryDate(expiryDate)
+                    .build());
+        });
+    }
+
+    public void recordConsumed(byte[] tokenHash) {
+        submit(() -> refreshTokenRepository.revokeValidToken(tokenHash, LocalDateTime.now()));
+    }
+
+    private void submit(Runnable work) {
+        executor.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> work.run());
+            } catch (Exception e) {
+                log.error("RefreshTokenAuditSink : submit : Failed to write audit record - {}", e.getMessage());
+            }
+        });
+    }
+}
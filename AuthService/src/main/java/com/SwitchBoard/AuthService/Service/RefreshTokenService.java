@@ -1,74 +1,64 @@
 package com.SwitchBoard.AuthService.Service;
 
-import com.SwitchBoard.AuthService.Model.Account;
-import com.SwitchBoard.AuthService.Model.RefreshToken;
-import com.SwitchBoard.AuthService.Repository.RefreshTokenRepository;
+import com.SwitchBoard.AuthService.DTO.Account.AccountIdentity;
+import com.SwitchBoard.AuthService.DTO.Authentication.RefreshTokenGrant;
+import com.SwitchBoard.AuthService.Service.RefreshToken.RefreshTokenStore;
+import com.SwitchBoard.AuthService.Service.RefreshToken.RevokedTokenFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class RefreshTokenService {
     
-    private final RefreshTokenRepository refreshTokenRepository;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final RevokedTokenFilter revokedTokenFilter;
     
     @Value("${jwt.refresh-expiration}")
     private Long refreshTokenExpiration;
     
-    public RefreshToken createRefreshToken(Account account) {
-        log.info("RefreshTokenService : createRefreshToken : Creating refresh token for account - {}", account.getEmail());
-        
-        // Revoke existing tokens for this account
-        revokeAllTokensByAccount(account);
-        
-        RefreshToken refreshToken = RefreshToken.builder()
-                .token(generateRefreshTokenValue())
-                .account(account)
-                .expiryDate(LocalDateTime.now().plusSeconds(refreshTokenExpiration))
-                .build();
-        
-        RefreshToken saved = refreshTokenRepository.save(refreshToken);
-        log.info("RefreshTokenService : createRefreshToken : Refresh token created successfully for account - {}", account.getEmail());
-        return saved;
-    }
-    
-    public Optional<RefreshToken> findByToken(String token) {
-        log.debug("RefreshTokenService : findByToken : Looking for refresh token");
-        return refreshTokenRepository.findValidToken(token, LocalDateTime.now());
-    }
-    
-    public boolean isTokenValid(RefreshToken token) {
-        log.debug("RefreshTokenService : isTokenValid : Validating refresh token");
-        return !token.getIsRevoked() && token.getExpiryDate().isAfter(LocalDateTime.now());
+    /** Issue a new refresh token for the account, replacing any it held before, and return its raw value. */
+    public String createRefreshToken(AccountIdentity account) {
+        log.info("RefreshTokenService : createRefreshToken : Creating refresh token for account - {}", account.getId());
+        String tokenValue = generateRefreshTokenValue();
+        refreshTokenStore.save(hashToken(tokenValue), account, Duration.ofSeconds(refreshTokenExpiration));
+        log.info("RefreshTokenService : createRefreshToken : Refresh token created successfully for account - {}", account.getId());
+        return tokenValue;
     }
     
-    public void revokeToken(RefreshToken token) {
-        log.info("RefreshTokenService : revokeToken : Revoking refresh token");
-        token.setIsRevoked(true);
-        refreshTokenRepository.save(token);
+    /** Invalidate a presented refresh token; a token can be consumed at most once. */
+    public Optional<RefreshTokenGrant> consume(String token) {
+        byte[] tokenHash = hashToken(token);
+        if (revokedTokenFilter.mightContain(tokenHash)) {
+            log.warn("RefreshTokenService : consume : Rejected previously used refresh token");
+            return Optional.empty();
+        }
+        Optional<RefreshTokenGrant> grant = refreshTokenStore.consume(tokenHash);
+        // Only tokens that really existed are recorded, so guessed values cannot saturate the filter
+        grant.ifPresent(consumed -> revokedTokenFilter.add(tokenHash));
+        return grant;
     }
     
-    public void revokeAllTokensByAccount(Account account) {
-        log.info("RefreshTokenService : revokeAllTokensByAccount : Revoking all tokens for account - {}", account.getEmail());
-        refreshTokenRepository.revokeAllTokensByAccount(account);
+    static String generateRefreshTokenValue() {
+        // 256 bits from a CSPRNG, URL-safe
+        byte[] bytes = new byte[32];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
-    
-    public void deleteExpiredTokens() {
-        log.info("RefreshTokenService : deleteExpiredTokens : Cleaning up expired tokens");
-        refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
-    }
-    
-    private String generateRefreshTokenValue() {
-        // Generate a secure random token
-        return UUID.randomUUID().toString() + "-" + UUID.randomUUID().toString();
+
+    /** Lookup key for a presented token; tokens issued before hashing was introduced were migrated with the same digest. */
+    static byte[] hashToken(String token) {
+        return DigestUtils.sha256(token);
     }
-}
\ No newline at end of file
+}
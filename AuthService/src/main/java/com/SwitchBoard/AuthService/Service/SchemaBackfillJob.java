@@ -0,0 +1,154 @@
+package com.SwitchBoard.AuthService.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fills the new columns of the expand steps in db/migration.sql from the legacy columns they replace,
+ * in small batches. Each batch is its own short transaction and skips rows locked by other writers;
+ * the triggers installed by the expand steps keep rows written in the meantime in step. A step stops
+ * running once db/contract.sql has dropped its legacy column.
+ */
+@Component
+@Slf4j
+public class SchemaBackfillJob implements SchedulingConfigurer {
+
+    private static final String LOCK_NAME = "schema-backfill";
+
+    private static final String COLUMN_EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?)";
+
+    private static final List<Step> STEPS = List.of(
+            new Step("refresh_tokens", "token",
+                    "UPDATE refresh_tokens SET token_hash = sha256(convert_to(token, 'UTF8')) WHERE id IN " +
+                            "(SELECT id FROM refresh_tokens WHERE token_hash IS NULL AND token IS NOT NULL " +
+                            "LIMIT ? FOR UPDATE SKIP LOCKED)"),
+            new Step("account", "user_role",
+                    "UPDATE account SET user_roles = account_role_mask(user_role) WHERE id IN " +
+                            "(SELECT id FROM account WHERE user_roles IS NULL LIMIT ? FOR UPDATE SKIP LOCKED)"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DistributedLockService distributedLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${schema.backfill.initial-delay-ms:30000}")
+    private long initialDelayMs;
+
+    @Value("${schema.backfill.interval-ms:600000}")
+    private long intervalMs;
+
+    @Value("${schema.backfill.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${schema.backfill.max-batches:500}")
+    private int maxBatches;
+
+    @Value("${schema.backfill.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    @Value("${schema.backfill.lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    public SchemaBackfillJob(JdbcTemplate jdbcTemplate,
+                             DistributedLockService distributedLockService,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.distributedLockService = distributedLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(this::backfill,
+                Duration.ofMillis(intervalMs), Duration.ofMillis(initialDelayMs)));
+    }
+
+    public void backfill() {
+        List<Step> pending = STEPS.stream()
+                .filter(step -> Boolean.TRUE.equals(jdbcTemplate.queryForObject(COLUMN_EXISTS_SQL, Boolean.class,
+                        step.table(), step.legacyColumn())))
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+        Optional<String> lock;
+        try {
+            lock = distributedLockService.tryAcquire(LOCK_NAME, Duration.ofMillis(lockTtlMs));
+        } catch (Exception e) {
+            log.error("SchemaBackfillJob : backfill : Could not reach lock store, skipping run - {}", e.getMessage());
+            return;
+        }
+        if (lock.isEmpty()) {
+            log.info("SchemaBackfillJob : backfill : Backfill already running on another instance");
+            return;
+        }
+        try {
+            for (Step step : pending) {
+                if (!backfill(step)) {
+                    break;
+                }
+            }
+        } finally {
+            distributedLockService.release(LOCK_NAME, lock.get());
+        }
+    }
+
+    /** Runs the batches of one step; false if the run was interrupted. */
+    private boolean backfill(Step step) {
+        Counter rows = Counter.builder("schema.backfill.rows")
+                .description("Rows converted from a legacy column")
+                .tag("column", step.table() + "." + step.legacyColumn())
+                .register(meterRegistry);
+        long total = 0;
+        boolean complete = false;
+        try {
+            for (int batch = 0; batch < maxBatches && !complete; batch++) {
+                Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(step.batchSql(), batchSize));
+                int count = updated == null ? 0 : updated;
+                total += count;
+                rows.increment(count);
+                complete = count < batchSize;
+                if (!complete) {
+                    Thread.sleep(batchPauseMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("SchemaBackfillJob : backfill : Backfill of {}.{} stopped after {} rows - {}",
+                    step.table(), step.legacyColumn(), total, e.getMessage(), e);
+            return true;
+        }
+        if (total == 0) {
+            return true;
+        }
+        if (complete) {
+            log.info("SchemaBackfillJob : backfill : Converted {} rows, every row of {}.{} is backfilled",
+                    total, step.table(), step.legacyColumn());
+        } else {
+            log.info("SchemaBackfillJob : backfill : Converted {} rows of {}.{}, continuing next run",
+                    total, step.table(), step.legacyColumn());
+        }
+        return true;
+    }
+
+    /** {@code batchSql} converts up to {@code ?} rows whose new column is still unset. */
+    private record Step(String table, String legacyColumn, String batchSql) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.SwitchBoard.AuthService.Util;
+
+import com.SwitchBoard.AuthService.Model.OtpState;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Compact binary encoding of {@link OtpState}:
+ * <pre>
+ * [0]      format version (1)
+ * [1..32]  raw SHA-256 digest of the OTP
+ * varint   attempts
+ * varint   issued-at, epoch seconds
+ * </pre>
+ * scripts/otp-verify.lua reads and rewrites the same layout server-side, so both must change together.
+ */
+public final class OtpStateCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+    public static final int DIGEST_LENGTH = 32;
+
+    private OtpStateCodec() {
+    }
+
+    public static byte[] encode(OtpState state) {
+        if (state.getDigest() == null || state.getDigest().length != DIGEST_LENGTH) {
+            throw new SerializationException("OTP digest must be " + DIGEST_LENGTH + " bytes");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 + DIGEST_LENGTH + 1 + 5);
+        out.write(FORMAT_VERSION);
+        out.writeBytes(state.getDigest());
+        writeVarint(out, state.getAttempts());
+        writeVarint(out, state.getIssuedAt().getEpochSecond());
+        return out.toByteArray();
+    }
+
+    public static OtpState decode(byte[] bytes) {
+        if (bytes.length < 1 + DIGEST_LENGTH + 2 || bytes[0] != FORMAT_VERSION) {
+            throw new SerializationException("Unsupported OTP state encoding");
+        }
+        int[] position = {1 + DIGEST_LENGTH};
+        long attempts = readVarint(bytes, position);
+        long issuedAt = readVarint(bytes, position);
+        return OtpState.builder()
+                .digest(Arrays.copyOfRange(bytes, 1, 1 + DIGEST_LENGTH))
+                .attempts((int) attempts)
+                .issuedAt(Instant.ofEpochSecond(issuedAt))
+                .build();
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] bytes, int[] position) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (position[0] >= bytes.length) {
+                throw new SerializationException("Truncated OTP state");
+            }
+            byte b = bytes[position[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new SerializationException("Malformed varint in OTP state");
+    }
+}
@@ -26,4 +26,9 @@ public class OtpUtils {
         log.debug("OtpUtils : hashOtp : OTP hashed successfully");
         return hashedOtp;
     }
+
+    // Raw SHA-256 digest of the OTP (32 bytes), as stored in Redis
+    public static byte[] digestOtp(String otp) {
+        return DigestUtils.sha256(otp);
+    }
 }
@@ -0,0 +1,49 @@
+-- Contract steps of the expand/contract changes in db/migration.sql: drop what only the previous release still used.
+-- Not run yet. Add it to spring.sql.init.schema-locations, after db/migration.sql, in the first release whose
+-- predecessor already had the expand step, once SchemaBackfillJob has converted every existing row.
+-- Same locking as db/migration.sql; each step is guarded by a catalog check, so re-running it is a no-op.
+
+DO $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('AuthService db/migration.sql'));
+    PERFORM set_config('lock_timeout', '5s', true);
+
+    -- Refresh tokens: drop the plaintext token now that every instance looks tokens up by token_hash
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'refresh_tokens'
+                 AND column_name = 'token') THEN
+        DROP TRIGGER IF EXISTS refresh_tokens_hash_token ON refresh_tokens;
+        UPDATE refresh_tokens SET token_hash = sha256(convert_to(token, 'UTF8'))
+        WHERE token_hash IS NULL AND token IS NOT NULL;
+        ALTER TABLE refresh_tokens DROP COLUMN token;
+        DROP FUNCTION IF EXISTS refresh_tokens_hash_token();
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'refresh_tokens'
+                 AND column_name = 'token_hash' AND is_nullable = 'YES') THEN
+        DELETE FROM refresh_tokens WHERE token_hash IS NULL;
+        ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+    END IF;
+
+    -- Accounts: drop user_role now that every instance reads user_roles
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'account'
+                 AND column_name = 'user_role') THEN
+        DROP TRIGGER IF EXISTS account_sync_user_roles ON account;
+        UPDATE account SET user_roles = (CASE WHEN 'ADMIN' = ANY (user_role) THEN 1 ELSE 0 END)
+                                      | (CASE WHEN 'USER' = ANY (user_role) THEN 2 ELSE 0 END)
+                                      | (CASE WHEN 'SUPER_ADMIN' = ANY (user_role) THEN 4 ELSE 0 END)
+        WHERE user_roles IS NULL;
+        ALTER TABLE account DROP COLUMN user_role;
+        DROP FUNCTION IF EXISTS account_sync_user_roles();
+        DROP FUNCTION IF EXISTS account_role_mask(varchar[]);
+        DROP FUNCTION IF EXISTS account_role_names(smallint);
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'account'
+                 AND column_name = 'user_roles' AND is_nullable = 'YES') THEN
+        UPDATE account SET user_roles = 0 WHERE user_roles IS NULL;
+        ALTER TABLE account ALTER COLUMN user_roles SET NOT NULL;
+    END IF;
+END
+$$;
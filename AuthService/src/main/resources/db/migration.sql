@@ -0,0 +1,83 @@
+-- Data migrations, executed as a single statement after Hibernate's schema update on every startup.
+-- Each step first checks the catalog, so once applied a startup only reads it and takes no table locks.
+-- The advisory lock keeps instances starting together from running a step twice; lock_timeout makes a step
+-- that would queue an ACCESS EXCLUSIVE lock behind long transactions fail the startup instead of stalling traffic.
+-- A column the previous release still uses is never dropped here: the expand step adds its replacement and keeps
+-- both in step, SchemaBackfillJob converts existing rows, and db/contract.sql drops the old column a release later.
+
+DO $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('AuthService db/migration.sql'));
+    PERFORM set_config('lock_timeout', '5s', true);
+
+    -- Refresh tokens, expand step of replacing the 512-char unique token column with its SHA-256 digest.
+    -- Instances of the previous release still insert and look up token; this release writes only token_hash, so
+    -- token may be null now and the trigger hashes every token the previous release writes. SchemaBackfillJob
+    -- hashes existing rows in batches; db/contract.sql drops token in a later release
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'refresh_tokens'
+                 AND column_name = 'token' AND is_nullable = 'NO') THEN
+        ALTER TABLE refresh_tokens ALTER COLUMN token DROP NOT NULL;
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'refresh_tokens'
+                 AND column_name = 'token')
+       AND NOT EXISTS (SELECT 1 FROM pg_trigger
+                       WHERE tgrelid = 'refresh_tokens'::regclass AND tgname = 'refresh_tokens_hash_token') THEN
+        CREATE OR REPLACE FUNCTION refresh_tokens_hash_token() RETURNS trigger
+            LANGUAGE plpgsql AS $fn$
+        BEGIN
+            IF NEW.token IS NOT NULL THEN
+                NEW.token_hash := sha256(convert_to(NEW.token, 'UTF8'));
+            END IF;
+            RETURN NEW;
+        END
+        $fn$;
+        CREATE TRIGGER refresh_tokens_hash_token BEFORE INSERT OR UPDATE OF token ON refresh_tokens
+            FOR EACH ROW EXECUTE FUNCTION refresh_tokens_hash_token();
+    END IF;
+
+    -- Accounts, expand step of moving the varchar[] user_role column to the user_roles bitmask (bits as in USER_ROLE).
+    -- Instances of the previous release still read and write user_role, so the trigger keeps the two columns in step
+    -- and SchemaBackfillJob converts existing rows in batches. db/contract.sql drops user_role in a later release
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'account'
+                 AND column_name = 'user_role')
+       AND NOT EXISTS (SELECT 1 FROM pg_trigger
+                       WHERE tgrelid = 'account'::regclass AND tgname = 'account_sync_user_roles') THEN
+        CREATE OR REPLACE FUNCTION account_role_mask(roles varchar[]) RETURNS smallint
+            LANGUAGE sql IMMUTABLE AS $fn$
+            SELECT ((CASE WHEN 'ADMIN' = ANY (roles) THEN 1 ELSE 0 END)
+                  | (CASE WHEN 'USER' = ANY (roles) THEN 2 ELSE 0 END)
+                  | (CASE WHEN 'SUPER_ADMIN' = ANY (roles) THEN 4 ELSE 0 END))::smallint
+        $fn$;
+        CREATE OR REPLACE FUNCTION account_role_names(mask smallint) RETURNS varchar[]
+            LANGUAGE sql IMMUTABLE AS $fn$
+            SELECT ARRAY(SELECT r.role FROM unnest(ARRAY['ADMIN', 'USER', 'SUPER_ADMIN']::varchar[], ARRAY[1, 2, 4]) AS r(role, bit)
+                         WHERE mask & r.bit <> 0)
+        $fn$;
+        -- Whichever column a statement changed wins; a row not converted yet takes its roles from user_role
+        CREATE OR REPLACE FUNCTION account_sync_user_roles() RETURNS trigger
+            LANGUAGE plpgsql AS $fn$
+        BEGIN
+            IF TG_OP = 'UPDATE' AND NEW.user_roles IS DISTINCT FROM OLD.user_roles
+               AND NEW.user_role IS NOT DISTINCT FROM OLD.user_role THEN
+                NEW.user_role := account_role_names(NEW.user_roles);
+            ELSIF NEW.user_roles IS NULL OR (TG_OP = 'UPDATE' AND NEW.user_role IS DISTINCT FROM OLD.user_role) THEN
+                NEW.user_roles := account_role_mask(NEW.user_role);
+            ELSIF NEW.user_role IS NULL THEN
+                NEW.user_role := account_role_names(NEW.user_roles);
+            END IF;
+            RETURN NEW;
+        END
+        $fn$;
+        CREATE TRIGGER account_sync_user_roles BEFORE INSERT OR UPDATE ON account
+            FOR EACH ROW EXECUTE FUNCTION account_sync_user_roles();
+    END IF;
+
+    -- Only the few admin rows are indexed, for AccountRepository.findAdmins
+    IF to_regclass('idx_account_admin') IS NULL THEN
+        CREATE INDEX idx_account_admin ON account (id) WHERE (user_roles & 1) <> 0;
+    END IF;
+END
+$$;
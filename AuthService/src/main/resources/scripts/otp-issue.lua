@@ -0,0 +1,11 @@
+-- Issues a new OTP atomically in a single round trip.
+-- KEYS[1] = OTP key, KEYS[2] = cooldown key; both carry the email as hash tag, so they share a cluster slot
+-- ARGV[1] = encoded OTP state (OtpStateCodec), ARGV[2] = OTP TTL (seconds), ARGV[3] = cooldown (seconds)
+-- Returns 1 when the OTP was stored, 0 when the cooldown is still active.
+
+if not redis.call('SET', KEYS[2], '1', 'EX', ARGV[3], 'NX') then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+return 1
@@ -0,0 +1,72 @@
+-- Verifies an OTP atomically in a single round trip.
+-- KEYS[1] = OTP key
+-- ARGV[1] = raw SHA-256 digest of the submitted OTP, ARGV[2] = maximum attempts
+-- Returns  1 when the OTP matched (key deleted)
+--          0 when it did not match (attempt recorded)
+--         -1 when no OTP is pending
+--         -2 when the attempt limit was reached (key deleted)
+
+local FORMAT_VERSION = 1
+local DIGEST_LENGTH = 32
+local maxAttempts = tonumber(ARGV[2])
+
+local function readVarint(s, pos)
+    local result, multiplier = 0, 1
+    while true do
+        local b = string.byte(s, pos)
+        if not b then
+            return nil, pos
+        end
+        result = result + (b % 128) * multiplier
+        pos = pos + 1
+        if b < 128 then
+            return result, pos
+        end
+        multiplier = multiplier * 128
+    end
+end
+
+local function writeVarint(n)
+    local out = {}
+    repeat
+        local b = n % 128
+        n = math.floor(n / 128)
+        if n > 0 then
+            b = b + 128
+        end
+        out[#out + 1] = string.char(b)
+    until n == 0
+    return table.concat(out)
+end
+
+local value = redis.call('GET', KEYS[1])
+if not value then
+    return -1
+end
+
+local attemptsPos = 2 + DIGEST_LENGTH
+local attempts, issuedAtPos = readVarint(value, attemptsPos)
+if string.byte(value, 1) ~= FORMAT_VERSION or not attempts then
+    redis.call('DEL', KEYS[1])
+    return -1
+end
+
+if attempts >= maxAttempts then
+    redis.call('DEL', KEYS[1])
+    return -2
+end
+
+if string.sub(value, 2, 1 + DIGEST_LENGTH) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+
+attempts = attempts + 1
+if attempts >= maxAttempts then
+    redis.call('DEL', KEYS[1])
+    return -2
+end
+redis.call('SET', KEYS[1],
+        string.sub(value, 1, attemptsPos - 1) .. writeVarint(attempts) .. string.sub(value, issuedAtPos),
+        'KEEPTTL')
+return 0
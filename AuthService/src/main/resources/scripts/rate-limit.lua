@@ -0,0 +1,33 @@
+-- Charges one token from every bucket in a single round trip, or from none of them.
+-- KEYS[i] = bucket key (per IP, per email, global); all in one cluster slot through the endpoint's hash tag
+-- ARGV[2i-1] = capacity of bucket i, ARGV[2i] = refill rate of bucket i (tokens per minute)
+-- Returns {0, 0} when the request is allowed, otherwise {i, retry after (ms)} for the first empty bucket.
+-- A bucket is a hash of the tokens left (t) and when they were counted (ts, Redis server time in ms),
+-- so the replicas share one clock.
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local tokens = {}
+for i, key in ipairs(KEYS) do
+    local capacity = tonumber(ARGV[2 * i - 1])
+    local rate = tonumber(ARGV[2 * i]) / 60000
+    local state = redis.call('HMGET', key, 't', 'ts')
+    local available = tonumber(state[1]) or capacity
+    local counted = tonumber(state[2]) or now
+    available = math.min(capacity, available + math.max(0, now - counted) * rate)
+    if available < 1 then
+        -- Nothing is charged, so a request refused here does not drain the other buckets
+        return {i, math.ceil((1 - available) / rate)}
+    end
+    tokens[i] = available
+end
+
+for i, key in ipairs(KEYS) do
+    local capacity = tonumber(ARGV[2 * i - 1])
+    local rate = tonumber(ARGV[2 * i]) / 60000
+    redis.call('HSET', key, 't', tokens[i] - 1, 'ts', now)
+    -- Once the bucket would be full again the key carries no information
+    redis.call('PEXPIRE', key, math.ceil(capacity / rate))
+end
+return {0, 0}
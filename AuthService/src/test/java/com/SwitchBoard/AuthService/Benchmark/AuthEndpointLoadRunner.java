@@ -0,0 +1,213 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Drives a login storm against a running AuthService. Accounts are created up front, then every
+ * session runs the client journey concurrently with the others: send-otp, wait for the OTP on
+ * otp-topic, verify-otp, then a chain of refreshes. Each HTTP stage, the OTP delivery delay and the
+ * whole journey ("login") get their own latency histogram; see {@link LoadReport}.
+ * {@link LoadHarness} runs the same storm against in-process stand-ins.
+ * Not a test; run the main method with
+ * {@code <base-url> <bootstrap-servers> [sessions=2000] [concurrency=1000] [refreshes-per-session=5]}.
+ * -Dload.report-dir (default target/load-report) and -Dload.baseline=<earlier summary.csv> control the report.
+ */
+public class AuthEndpointLoadRunner {
+
+    static final String[] STAGES = {"create", "send-otp", "otp-delivery", "verify-otp", "refresh", "login"};
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        int refreshes = args.length > 4 ? Integer.parseInt(args[4]) : 5;
+        report(run(args[0], args[1], sessions, concurrency, refreshes));
+    }
+
+    static LoadReport run(String baseUrl, String bootstrapServers, int sessions, int concurrency, int refreshes) throws Exception {
+        String authUrl = baseUrl + "/api/v1/auth";
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        List<String> emails = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            emails.add("load-" + run + "-" + i + "@example.com");
+        }
+        LoadReport report = new LoadReport(STAGES);
+        System.out.printf("sessions=%d concurrency=%d refreshes/session=%d%n", sessions, concurrency, refreshes);
+
+        forEach(emails, concurrency, email -> call(report, "create",
+                () -> post(client, authUrl + "/account/create", "{\"name\":\"Load Test\",\"email\":\"" + email + "\"}")));
+
+        Map<String, CompletableFuture<String>> otps = new ConcurrentHashMap<>();
+        AtomicBoolean listening = new AtomicBoolean(true);
+        Thread otpReader = startOtpReader(bootstrapServers, otps, listening);
+        try {
+            forEach(emails, concurrency, email -> login(client, authUrl, email, otps, refreshes, report));
+        } finally {
+            listening.set(false);
+            otpReader.join();
+        }
+        return report;
+    }
+
+    static void report(LoadReport report) throws Exception {
+        String baseline = System.getProperty("load.baseline");
+        Path directory = Path.of(System.getProperty("load.report-dir", "target/load-report"));
+        report.print(System.out, baseline == null ? null : Path.of(baseline));
+        report.write(directory);
+        System.out.println("report written to " + directory.toAbsolutePath());
+    }
+
+    /** One client session; a failed step ends it and the journey counts as an error. */
+    private static void login(HttpClient client, String authUrl, String email, Map<String, CompletableFuture<String>> otps,
+                              int refreshes, LoadReport report) {
+        long begin = System.nanoTime();
+        boolean ok = false;
+        try {
+            if (!call(report, "send-otp", () -> post(client, authUrl + "/send-otp", "{\"email\":\"" + email + "\"}")).ok()) return;
+
+            long sent = System.nanoTime();
+            String otp;
+            try {
+                otp = otps.computeIfAbsent(email, key -> new CompletableFuture<>()).get(60, TimeUnit.SECONDS);
+                report.record("otp-delivery", sent, true);
+            } catch (Exception e) {
+                report.record("otp-delivery", sent, false);
+                return;
+            }
+
+            Response verified = call(report, "verify-otp", () -> post(client, authUrl + "/verify-otp",
+                    "{\"email\":\"" + email + "\",\"otp\":\"" + otp + "\"}"));
+            if (!verified.ok()) return;
+
+            String refreshToken = verified.field("refreshToken");
+            for (int i = 0; i < refreshes; i++) {
+                String current = refreshToken;
+                Response refreshed = call(report, "refresh", () -> post(client, authUrl + "/refresh",
+                        "{\"refreshToken\":\"" + current + "\"}"));
+                if (!refreshed.ok()) return;
+                refreshToken = refreshed.field("refreshToken");
+            }
+            ok = true;
+        } finally {
+            report.record("login", begin, ok);
+        }
+    }
+
+    private static Response call(LoadReport report, String stage, Supplier<Response> request) {
+        long begin = System.nanoTime();
+        Response response = request.get();
+        report.record(stage, begin, response.ok());
+        return response;
+    }
+
+    private static void forEach(List<String> emails, int concurrency, Consumer<String> task) throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String email : emails) {
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        task.accept(email);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private static Response post(HttpClient client, String url, String body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            return new Response(response.statusCode(), response.body());
+        } catch (Exception e) {
+            return new Response(-1, e.toString());
+        }
+    }
+
+    /** Collects OTPs from otp-topic, starting at the current end of every partition. */
+    private static Thread startOtpReader(String bootstrapServers, Map<String, CompletableFuture<String>> otps, AtomicBoolean listening) throws InterruptedException {
+        Map<String, Object> config = Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        AtomicBoolean positioned = new AtomicBoolean();
+        Thread reader = Thread.ofPlatform().name("otp-reader").start(() -> {
+            try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(config)) {
+                List<TopicPartition> partitions = consumer.partitionsFor("otp-topic").stream()
+                        .map(info -> new TopicPartition(info.topic(), info.partition()))
+                        .toList();
+                consumer.assign(partitions);
+                consumer.seekToEnd(partitions);
+                partitions.forEach(consumer::position);
+                positioned.set(true);
+                while (listening.get()) {
+                    for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(200))) {
+                        try {
+                            JsonNode event = MAPPER.readTree(record.value());
+                            otps.computeIfAbsent(event.path("email").asText(), key -> new CompletableFuture<>())
+                                    .complete(event.path("otp").asText());
+                        } catch (Exception ignored) {
+                            // not a JSON OTP event
+                        }
+                    }
+                }
+            }
+        });
+        while (!positioned.get() && reader.isAlive()) {
+            Thread.sleep(50);
+        }
+        return reader;
+    }
+
+    private record Response(int status, String body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        String field(String name) {
+            try {
+                return MAPPER.readTree(body).path(name).asText();
+            } catch (Exception e) {
+                return "";
+            }
+        }
+    }
+}
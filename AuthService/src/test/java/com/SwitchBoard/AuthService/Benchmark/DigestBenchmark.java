@@ -0,0 +1,44 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import com.SwitchBoard.AuthService.Util.OtpUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OTP digests: the hex-string form ({@link OtpUtils#hashOtp}) against the raw 32-byte form
+ * ({@link OtpUtils#digestOtp}) that the Redis OTP state stores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class DigestBenchmark {
+
+    private final String otp = "482913";
+
+    @Benchmark
+    public String sha256Hex() {
+        return OtpUtils.hashOtp(otp);
+    }
+
+    @Benchmark
+    public byte[] sha256Raw() {
+        return OtpUtils.digestOtp(otp);
+    }
+
+    @Benchmark
+    public String generateOtp() {
+        return OtpUtils.generateOtp();
+    }
+}
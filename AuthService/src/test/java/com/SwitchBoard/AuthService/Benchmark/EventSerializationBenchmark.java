@@ -0,0 +1,77 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import com.SwitchBoard.AuthService.Kafka.Serialization.AvroEventSerializer;
+import com.SwitchBoard.AuthService.Kafka.Serialization.ReflectSchemaSource;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import switchboard.schemas.OTPNotificationEvent;
+import switchboard.schemas.OnboardingEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-record cost of the two event value formats: the JsonSerializer path (including the
+ * type headers it adds) versus Avro single-object encoding with cached writers.
+ * Not a test; run with
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main EventSerializationBenchmark -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private static final String TOPIC = "otp-topic";
+
+    private JsonSerializer<Object> jsonSerializer;
+    private AvroEventSerializer avroSerializer;
+    private OTPNotificationEvent otpEvent;
+    private OnboardingEvent onboardingEvent;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new JsonSerializer<>();
+        avroSerializer = new AvroEventSerializer(new ReflectSchemaSource());
+        otpEvent = new OTPNotificationEvent("jane.doe@example.com", "482913");
+        onboardingEvent = new OnboardingEvent("jane.doe@example.com", "Jane Doe");
+    }
+
+    @TearDown
+    public void tearDown() {
+        jsonSerializer.close();
+        avroSerializer.close();
+    }
+
+    @Benchmark
+    public byte[] jsonOtp() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), otpEvent);
+    }
+
+    @Benchmark
+    public byte[] avroOtp() {
+        return avroSerializer.serialize(TOPIC, new RecordHeaders(), otpEvent);
+    }
+
+    @Benchmark
+    public byte[] jsonOnboarding() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), onboardingEvent);
+    }
+
+    @Benchmark
+    public byte[] avroOnboarding() {
+        return avroSerializer.serialize(TOPIC, new RecordHeaders(), onboardingEvent);
+    }
+}
@@ -0,0 +1,63 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import com.SwitchBoard.AuthService.Security.JwkSetCache;
+import com.SwitchBoard.AuthService.Security.SigningKeyManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWKS endpoint and key loading: the cached document served per request, a cold rebuild
+ * (what every request paid before the cache), and parsing plus validating the PEM key pair.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class JwksBenchmark {
+
+    private SigningKeyManager signingKeyManager;
+    private ObjectMapper objectMapper;
+    private JwkSetCache jwkSetCache;
+
+    @Setup
+    public void setUp() {
+        signingKeyManager = new SigningKeyManager(new DefaultResourceLoader());
+        ReflectionTestUtils.setField(signingKeyManager, "privateKeyPath", "keys/private.pem");
+        ReflectionTestUtils.setField(signingKeyManager, "publicKeyPath", "keys/public.pem");
+        ReflectionTestUtils.setField(signingKeyManager, "previousPublicKeyPaths", List.of());
+        ReflectionTestUtils.invokeMethod(signingKeyManager, "init");
+        objectMapper = new ObjectMapper();
+        jwkSetCache = new JwkSetCache(signingKeyManager, objectMapper);
+    }
+
+    @Benchmark
+    public JwkSetCache.Document cachedDocument() {
+        return jwkSetCache.getDocument();
+    }
+
+    @Benchmark
+    public JwkSetCache.Document rebuiltDocument() {
+        return new JwkSetCache(signingKeyManager, objectMapper).getDocument();
+    }
+
+    @Benchmark
+    public Object loadKeyPair() {
+        return ReflectionTestUtils.invokeMethod(signingKeyManager, "load");
+    }
+}
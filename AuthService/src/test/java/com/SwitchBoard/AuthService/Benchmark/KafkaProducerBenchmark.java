@@ -0,0 +1,106 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import com.SwitchBoard.AuthService.Kafka.Config.KafkaProducerConfig;
+import com.SwitchBoard.AuthService.Kafka.Config.KafkaProducerProperties;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import switchboard.schemas.OTPNotificationEvent;
+import switchboard.schemas.OnboardingEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Producer throughput against an embedded KRaft broker: the previous per-event-type producers
+ * (acks=all, nothing else tuned) versus the shared tuned producer.
+ * Not a test; run the main method from the IDE or with
+ * {@code mvn -q test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.SwitchBoard.AuthService.Benchmark.KafkaProducerBenchmark}.
+ * Pass the record count as the first argument (default 200000).
+ */
+public class KafkaProducerBenchmark {
+
+    private static final String OTP_TOPIC = "otp-topic";
+    private static final String ONBOARDING_TOPIC = "onboarding-topic";
+
+    public static void main(String[] args) throws Exception {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, 3, OTP_TOPIC, ONBOARDING_TOPIC);
+        broker.afterPropertiesSet();
+        try {
+            String bootstrap = broker.getBrokersAsString();
+            // Warm-up so the first measured run does not pay for JIT and topic metadata
+            run("warm-up", legacyConfig(bootstrap), legacyConfig(bootstrap), records / 4, false);
+
+            run("previous (2 producers, acks=all)", legacyConfig(bootstrap), legacyConfig(bootstrap), records, true);
+            Map<String, Object> lz4 = KafkaProducerConfig.tunedProducerConfig(bootstrap, new KafkaProducerProperties());
+            run("shared tuned, lz4", lz4, null, records, true);
+            KafkaProducerProperties zstdProperties = new KafkaProducerProperties();
+            zstdProperties.setCompressionType("zstd");
+            run("shared tuned, zstd", KafkaProducerConfig.tunedProducerConfig(bootstrap, zstdProperties), null, records, true);
+        } finally {
+            broker.destroy();
+        }
+    }
+
+    /** The configuration both event producers used before the shared producer was introduced. */
+    private static Map<String, Object> legacyConfig(String bootstrap) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        return config;
+    }
+
+    /** Sends alternating OTP and onboarding events; a null second config means both share one producer. */
+    private static void run(String name, Map<String, Object> otpConfig, Map<String, Object> onboardingConfig,
+                            int records, boolean report) throws Exception {
+        DefaultKafkaProducerFactory<Object, Object> otpFactory = new DefaultKafkaProducerFactory<>(otpConfig);
+        DefaultKafkaProducerFactory<Object, Object> onboardingFactory = onboardingConfig == null
+                ? otpFactory : new DefaultKafkaProducerFactory<>(onboardingConfig);
+        KafkaTemplate<Object, Object> otpTemplate = new KafkaTemplate<>(otpFactory);
+        KafkaTemplate<Object, Object> onboardingTemplate = onboardingConfig == null ? otpTemplate : new KafkaTemplate<>(onboardingFactory);
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>(records);
+            long start = System.nanoTime();
+            for (int i = 0; i < records; i++) {
+                String email = "user" + i + "@example.com";
+                if ((i & 1) == 0) {
+                    futures.add(otpTemplate.send(OTP_TOPIC, email, new OTPNotificationEvent(email, String.format("%06d", i % 1_000_000))));
+                } else {
+                    futures.add(onboardingTemplate.send(ONBOARDING_TOPIC, email, new OnboardingEvent(email, "Benchmark User " + i)));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            long elapsedNanos = System.nanoTime() - start;
+            if (report) {
+                double seconds = elapsedNanos / 1e9;
+                double bytes = metric(otpTemplate, "outgoing-byte-total") + (onboardingConfig == null ? 0 : metric(onboardingTemplate, "outgoing-byte-total"));
+                double requests = metric(otpTemplate, "request-total") + (onboardingConfig == null ? 0 : metric(onboardingTemplate, "request-total"));
+                System.out.printf("%-36s %8.0f records/s  %6.2f s  %8.1f KB on the wire  %7.0f requests%n",
+                        name, records / seconds, seconds, bytes / 1024, requests);
+            }
+        } finally {
+            otpFactory.destroy();
+            onboardingFactory.destroy();
+        }
+    }
+
+    private static double metric(KafkaTemplate<Object, Object> template, String name) {
+        for (Map.Entry<MetricName, ? extends Metric> entry : template.metrics().entrySet()) {
+            if (entry.getKey().group().equals("producer-metrics") && entry.getKey().name().equals(name)) {
+                return ((Number) entry.getValue().metricValue()).doubleValue();
+            }
+        }
+        return 0;
+    }
+}
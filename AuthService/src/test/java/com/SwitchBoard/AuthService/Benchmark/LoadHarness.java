@@ -0,0 +1,166 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import com.SwitchBoard.AuthService.AuthServiceApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.util.FileSystemUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Reproduces a login storm without docker-compose: boots AuthServiceApplication in this JVM against
+ * an embedded Postgres 17 (zonky binaries), an embedded Redis and a single-node KRaft Kafka broker,
+ * then runs the {@link AuthEndpointLoadRunner} journey mix and writes the report.
+ * The stand-ins are tuned for tests (Postgres runs with fsync off) and share the machine with the
+ * load generator, so compare reports from the same box rather than reading them as production numbers.
+ * Not a test; run the main method with
+ * {@code [sessions=2000] [concurrency=200] [refreshes-per-session=5] [--any.spring.property=value ...]},
+ * e.g. {@code --spring.threads.virtual.enabled=true} or {@code --spring.profiles.active=reactive}.
+ * Application logging goes to logback-benchmark.xml unless {@code --logging.config} is given.
+ * With {@code -Dload.replica=true} a second embedded Postgres streams from the first and is configured
+ * as the read replica (app.datasource.replica.urls).
+ */
+public class LoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> numbers = new ArrayList<>();
+        Map<String, String> properties = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int equals = arg.indexOf('=');
+                properties.put(arg.substring(2, equals), arg.substring(equals + 1));
+            } else {
+                numbers.add(Integer.parseInt(arg));
+            }
+        }
+        int sessions = numbers.size() > 0 ? numbers.get(0) : 2000;
+        int concurrency = numbers.size() > 1 ? numbers.get(1) : 200;
+        int refreshes = numbers.size() > 2 ? numbers.get(2) : 5;
+
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                // Keeps the WAL written while the replica is copied until it has streamed it
+                .setServerConfig("wal_keep_size", "256MB")
+                .start();
+        Path replicaDirectory = Boolean.getBoolean("load.replica") ? Files.createTempDirectory("load-harness-replica") : null;
+        EmbeddedPostgres replica = null;
+        RedisServer redis = new RedisServer(freePort());
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, 3, "otp-topic", "onboarding-topic");
+        ConfigurableApplicationContext context = null;
+        try {
+            if (replicaDirectory != null) {
+                replica = startReplica(postgres, replicaDirectory);
+            }
+            redis.start();
+            kafka.afterPropertiesSet();
+
+            Map<String, String> defaults = new LinkedHashMap<>();
+            defaults.put("server.port", "0");
+            defaults.put("management.server.port", "0");
+            defaults.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+            defaults.put("spring.datasource.username", "postgres");
+            defaults.put("spring.datasource.password", "");
+            if (replica != null) {
+                defaults.put("app.datasource.replica.urls", replica.getJdbcUrl("postgres", "postgres"));
+            }
+            defaults.put("spring.data.redis.host", "localhost");
+            defaults.put("spring.data.redis.port", Integer.toString(redis.ports().get(0)));
+            defaults.put("spring.kafka.bootstrap-servers", kafka.getBrokersAsString());
+            defaults.put("eureka.client.enabled", "false");
+            defaults.put("spring.jpa.show-sql", "false");
+            // Every simulated session comes from 127.0.0.1; --app.rate-limit.enabled=true measures the limiter itself
+            defaults.put("app.rate-limit.enabled", "false");
+            defaults.put("logging.config", "classpath:logback-benchmark.xml");
+            defaults.putAll(properties);
+            List<String> springArgs = new ArrayList<>();
+            defaults.forEach((key, value) -> springArgs.add("--" + key + "=" + value));
+
+            context = SpringApplication.run(AuthServiceApplication.class, springArgs.toArray(String[]::new));
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            System.out.println("AuthService up at " + baseUrl + " with " + properties);
+
+            AuthEndpointLoadRunner.report(AuthEndpointLoadRunner.run(baseUrl, kafka.getBrokersAsString(), sessions, concurrency, refreshes));
+        } finally {
+            if (context != null) context.close();
+            kafka.destroy();
+            redis.stop();
+            if (replica != null) replica.close();
+            postgres.close();
+            if (replicaDirectory != null) FileSystemUtils.deleteRecursively(replicaDirectory);
+        }
+    }
+
+    /**
+     * Physical standby of {@code primary} from a low-level base backup (the binaries have no pg_basebackup):
+     * the data directory is copied between pg_backup_start and pg_backup_stop, then started in standby mode.
+     */
+    private static EmbeddedPostgres startReplica(EmbeddedPostgres primary, Path directory) throws Exception {
+        try (Connection connection = primary.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            Path dataDirectory;
+            try (ResultSet resultSet = statement.executeQuery("SHOW data_directory")) {
+                resultSet.next();
+                dataDirectory = Path.of(resultSet.getString(1));
+            }
+            statement.execute("SELECT pg_backup_start('load-harness', true)");
+            copyDataDirectory(dataDirectory, directory);
+            try (ResultSet resultSet = statement.executeQuery("SELECT labelfile FROM pg_backup_stop(false)")) {
+                resultSet.next();
+                Files.writeString(directory.resolve("backup_label"), resultSet.getString(1));
+            }
+        }
+        Files.writeString(directory.resolve("standby.signal"), "");
+        Files.writeString(directory.resolve("postgresql.auto.conf"),
+                "primary_conninfo = 'host=localhost port=" + primary.getPort() + " user=postgres'\n",
+                StandardOpenOption.APPEND);
+        return EmbeddedPostgres.builder().setDataDirectory(directory).setCleanDataDirectory(false).start();
+    }
+
+    private static void copyDataDirectory(Path source, Path target) throws IOException {
+        // Server state and WAL are not part of a base backup; the standby streams the WAL it needs
+        Set<String> skipped = Set.of("postmaster.pid", "postmaster.opts", "epg-lock");
+        Set<String> emptied = Set.of("pg_wal", "pg_replslot", "pg_stat_tmp");
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path relative = source.relativize(path);
+                if (skipped.contains(relative.toString())
+                        || (relative.getNameCount() > 1 && emptied.contains(relative.getName(0).toString()))) {
+                    continue;
+                }
+                Path destination = target.resolve(relative);
+                try {
+                    if (Files.isDirectory(path)) {
+                        Files.createDirectories(destination);
+                    } else {
+                        Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } catch (NoSuchFileException e) {
+                    // Temporary files may go away while the server keeps running
+                }
+            }
+        }
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histograms and throughput per load-test stage.
+ * {@link #write} leaves a {@code summary.csv} plus one HdrHistogram percentile file ({@code .hgrm},
+ * milliseconds) per stage; pass an earlier {@code summary.csv} to {@link #print} to get the deltas.
+ */
+class LoadReport {
+
+    private static final String HEADER = "stage,requests,errors,req_per_s,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+
+    LoadReport(String... stageNames) {
+        for (String name : stageNames) {
+            stages.put(name, new Stage());
+        }
+    }
+
+    /** Records one call that started at {@code startNanos} and just finished. */
+    void record(String stage, long startNanos, boolean ok) {
+        stages.get(stage).record(startNanos, System.nanoTime(), ok);
+    }
+
+    void print(PrintStream out, Path baseline) throws IOException {
+        Map<String, double[]> previous = baseline == null ? Map.of() : read(baseline);
+        out.println("stage            requests  errors   req/s      p50      p90      p99    p99.9      max (ms)");
+        for (Map.Entry<String, Stage> entry : stages.entrySet()) {
+            double[] row = entry.getValue().row();
+            out.printf("%-15s %9.0f %7.0f %7.0f %8.1f %8.1f %8.1f %8.1f %8.1f%n", entry.getKey(),
+                    row[0], row[1], row[2], row[3], row[4], row[5], row[6], row[7]);
+            double[] before = previous.get(entry.getKey());
+            if (before != null) {
+                // Throughput and latency change against the baseline, in percent
+                out.printf("%-15s %9s %7s %+6.0f%% %+7.0f%% %+7.0f%% %+7.0f%% %+7.0f%% %+7.0f%%%n", "  vs baseline", "", "",
+                        delta(before[2], row[2]), delta(before[3], row[3]), delta(before[4], row[4]),
+                        delta(before[5], row[5]), delta(before[6], row[6]), delta(before[7], row[7]));
+            }
+        }
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (Map.Entry<String, Stage> entry : stages.entrySet()) {
+            double[] row = entry.getValue().row();
+            lines.add(String.format("%s,%.0f,%.0f,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f", entry.getKey(),
+                    row[0], row[1], row[2], row[3], row[4], row[5], row[6], row[7]));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")))) {
+                entry.getValue().histogram.outputPercentileDistribution(out, 1e6);
+            }
+        }
+        Files.write(directory.resolve("summary.csv"), lines);
+    }
+
+    private static Map<String, double[]> read(Path summary) throws IOException {
+        Map<String, double[]> rows = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(summary)) {
+            if (line.isBlank() || line.equals(HEADER)) continue;
+            String[] fields = line.split(",");
+            double[] row = new double[fields.length - 1];
+            for (int i = 1; i < fields.length; i++) {
+                row[i - 1] = Double.parseDouble(fields[i]);
+            }
+            rows.put(fields[0], row);
+        }
+        return rows;
+    }
+
+    private static double delta(double before, double after) {
+        return before == 0 ? 0 : (after - before) * 100 / before;
+    }
+
+    private static final class Stage {
+        private final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(2), 3);
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+
+        void record(long start, long end, boolean ok) {
+            histogram.recordValue(Math.min(end - start, histogram.getHighestTrackableValue()));
+            if (!ok) errors.incrementAndGet();
+            firstStart.accumulateAndGet(start, Math::min);
+            lastEnd.accumulateAndGet(end, Math::max);
+        }
+
+        /** requests, errors, req/s, p50, p90, p99, p99.9, max (latencies in ms) */
+        double[] row() {
+            long count = histogram.getTotalCount();
+            double seconds = count == 0 ? 0 : (lastEnd.get() - firstStart.get()) / 1e9;
+            return new double[]{count, errors.get(), seconds == 0 ? 0 : count / seconds,
+                    ms(histogram.getValueAtPercentile(50)), ms(histogram.getValueAtPercentile(90)),
+                    ms(histogram.getValueAtPercentile(99)), ms(histogram.getValueAtPercentile(99.9)),
+                    ms(histogram.getMaxValue())};
+        }
+
+        private static double ms(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.SwitchBoard.AuthService.DTO.Account.USER_ROLE;
+import com.SwitchBoard.AuthService.Model.Account;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.FileSystemUtils;
+import switchboard.schemas.OTPNotificationEvent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Logging cost of one send-otp plus verify-otp round, and of one account creation, on the request
+ * thread. "before" is the old pipeline (synchronous pattern appenders, application loggers at DEBUG,
+ * entity and event dumps); "after" is logback-spring.xml as shipped (async, JSON file sink, INFO).
+ * The statements mirror the controllers and services on those paths. Four threads, as concurrent
+ * requests would be. JMH calls far faster than real traffic would, so each invocation first waits,
+ * untimed, until the async queues are empty again; otherwise they run full, events are discarded and
+ * the numbers show the cost of dropping them. At the end of each trial the JSON file lines are counted
+ * against the INFO events logged, which shows whether anything was dropped after all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class LoggingBenchmark {
+
+    @Param({"before", "after"})
+    public String pipeline;
+
+    private static final Path LOGS = Path.of(System.getProperty("java.io.tmpdir"), "auth-logging-benchmark");
+    // INFO statements per invocation, the ones the "after" pipeline writes
+    private static final int OTP_LOGIN_INFO_EVENTS = 12;
+    private static final int CREATE_ACCOUNT_INFO_EVENTS = 5;
+
+    private LoggerContext context;
+    private boolean before;
+    private final List<AsyncAppender> queues = new ArrayList<>();
+    private final AtomicLong invocations = new AtomicLong();
+
+    private Logger authController;
+    private Logger accountService;
+    private Logger otpService;
+    private Logger otpUtils;
+    private Logger identityResolver;
+    private Logger otpEventProducer;
+    private Logger onboardingEventProducer;
+    private Logger outboxEventPublisher;
+    private Logger jwtUtil;
+
+    private final String email = "jane.doe@example.com";
+    private final Account account = Account.builder()
+            .id(UUID.randomUUID())
+            .name("Jane Doe")
+            .email(email)
+            .mobile("+910000000000")
+            .linkedinUrl("https://linkedin.com/in/janedoe")
+            .githubUrl("https://github.com/janedoe")
+            .deadline(new Date())
+            .aimRole("Backend Engineer")
+            .currentRole("Student")
+            .userRole(Set.of(USER_ROLE.USER))
+            .build();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FileSystemUtils.deleteRecursively(LOGS.resolve(pipeline));
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        JoranConfigurator configurator = new JoranConfigurator();
+        configurator.setContext(context);
+        configurator.doConfigure(LoggingBenchmark.class.getResource("/logback-benchmark-" + pipeline + ".xml"));
+        before = pipeline.equals("before");
+        for (Iterator<Appender<ILoggingEvent>> it = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders(); it.hasNext(); ) {
+            if (it.next() instanceof AsyncAppender queue) {
+                queues.add(queue);
+            }
+        }
+
+        authController = LoggerFactory.getLogger("com.SwitchBoard.AuthService.Controller.AuthController");
+        accountService = LoggerFactory.getLogger("com.SwitchBoard.AuthService.Service.Account.impl.AccountServiceImpl");
+        otpService = LoggerFactory.getLogger("com.SwitchBoard.AuthService.Service.OtpService");
+        otpUtils = LoggerFactory.getLogger("com.SwitchBoard.AuthService.Util.OtpUtils");
+        identityResolver = LoggerFactory.getLogger("com.SwitchBoard.AuthService.Service.AccountIdentityResolver");
+        otpEventProducer = LoggerFactory.getLogger("com.SwitchBoard.AuthService.Kafka.Service.impl.OTPEventProducerService");
+        onboardingEventProducer = LoggerFactory.getLogger("com.SwitchBoard.AuthService.Kafka.Service.impl.OnboardingEventProducer");
+        outboxEventPublisher = LoggerFactory.getLogger("com.SwitchBoard.AuthService.Kafka.Service.impl.OutboxEventPublisher");
+        jwtUtil = LoggerFactory.getLogger("com.SwitchBoard.AuthService.Util.JwtUtil");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(BenchmarkParams params) throws IOException {
+        context.stop();
+        if (!before) {
+            int perInvocation = params.getBenchmark().endsWith("otpLogin") ? OTP_LOGIN_INFO_EVENTS : CREATE_ACCOUNT_INFO_EVENTS;
+            System.out.printf("%nINFO events logged %d, JSON lines written %d%n", invocations.get() * perInvocation, jsonLines());
+        }
+    }
+
+    /** Keeps the async queues as empty as they are under real traffic; runs outside the measured time. */
+    @State(Scope.Thread)
+    public static class Pacing {
+
+        @Setup(Level.Invocation)
+        public void waitForQueues(LoggingBenchmark benchmark) {
+            for (AsyncAppender queue : benchmark.queues) {
+                while (queue.getNumberOfElementsInQueue() > 0) {
+                    // Parks rather than spins, so the worker gets the CPU on small machines
+                    LockSupport.parkNanos(10_000);
+                }
+            }
+            benchmark.invocations.incrementAndGet();
+        }
+    }
+
+    private long jsonLines() throws IOException {
+        long lines = 0;
+        try (Stream<Path> files = Files.walk(LOGS.resolve(pipeline))) {
+            for (Path file : (Iterable<Path>) files.filter(path -> path.getFileName().toString().startsWith("auth-service"))::iterator) {
+                try (Stream<String> fileLines = Files.lines(file)) {
+                    lines += fileLines.count();
+                }
+            }
+        }
+        return lines;
+    }
+
+    @Benchmark
+    public void otpLogin(Pacing pacing) {
+        // send-otp
+        authController.info("AuthController : sendOtp : Request received for email - {}", email);
+        otpService.info("OtpService : generateOtp : Generating OTP for email - {}", email);
+        identityResolver.debug("AccountIdentityResolver : findByEmail : Cache hit for email - {}", email);
+        otpUtils.debug("OtpUtils : generateOtp : Generating 6-digit OTP");
+        otpUtils.debug("OtpUtils : generateOtp : OTP generated successfully");
+        otpService.debug("OtpService : generateOtp : OTP generated for email - {}", email);
+        otpService.debug("OtpService : generateOtp : Storing OTP in Redis");
+        otpEventProducer.info("OTPEventProducerService : publishOTPNotification : Publishing OTP for email - {}", email);
+        if (before) {
+            otpEventProducer.debug("OTPEventProducerService : publishOTPNotification : Created OTPNotificationEvent: {}",
+                    new OTPNotificationEvent(email, "482913"));
+        }
+        otpService.info("OtpService : generateOtp : OTP sent successfully to email - {}", email);
+        authController.info("AuthController : sendOtp : OTP sent successfully for email - {}", email);
+
+        // verify-otp
+        authController.info("AuthController : verifyOtp : Request received for email - {}", email);
+        otpService.info("OtpService : validateOtp : Validating OTP for email - {}", email);
+        otpService.info("OtpService : validateOtp : OTP verified successfully for email - {}", email);
+        otpService.debug("OtpService : validateOtp : Retrieving user information");
+        identityResolver.debug("AccountIdentityResolver : findByEmail : Cache hit for email - {}", email);
+        otpService.debug("OtpService : validateOtp : Generating JWT token");
+        jwtUtil.info("JwtUtil : generateToken : Generating JWT token for user - {}", email);
+        long expiry = System.currentTimeMillis() / 1000 + 3600;
+        jwtUtil.debug("JwtUtil : generateToken : Setting token expiration to {}", before ? new Date(expiry * 1000) : expiry);
+        jwtUtil.info("JwtUtil : generateToken : JWT token generated successfully");
+        otpService.debug("OtpService : validateOtp : Creating refresh token");
+        otpService.info("OtpService : validateOtp : Tokens generated successfully");
+        authController.info("AuthController : verifyOtp : OTP verified successfully for email - {}", email);
+    }
+
+    @Benchmark
+    public void createAccount(Pacing pacing) {
+        accountService.info("AccountService : createProfile : Creating account for user - {}", "Jane Doe");
+        accountService.debug("AccountService : createProfile : Saving new account to database - {}", before ? account : email);
+        accountService.info("AccountService : createProfile : Account created successfully - {}", email);
+        onboardingEventProducer.info("OnboardingEventProducer : publishOnboardingNotification : Publishing Onboarding notification for email - {}", email);
+        outboxEventPublisher.debug("OutboxEventPublisher : enqueue : Queued {} event {} for topic {}", "ONBOARDING", 43L, "onboarding-topic");
+        onboardingEventProducer.info("OnboardingEventProducer : publishOnboardingNotification : Queued OnboardingEvent for {}", "onboarding-topic");
+        accountService.info("AccountService : createProfile : Published onboarding notification for - {}", email);
+    }
+}
@@ -0,0 +1,113 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import com.SwitchBoard.AuthService.Model.OtpState;
+import com.SwitchBoard.AuthService.Support.EmbeddedServices;
+import com.SwitchBoard.AuthService.Util.OtpStateCodec;
+import com.SwitchBoard.AuthService.Util.OtpUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A wrong OTP guess against the embedded Redis: the previous four calls (EXISTS, HGET hash, HGET attempts,
+ * HSET attempts) against one scripts/otp-verify.lua call. The attempt limit is set out of reach so every
+ * invocation takes the mismatch path. Each thread guesses on its own key; run with {@code -t 8} to add
+ * contention on the shared connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class OtpVerifyBenchmark {
+
+    private static final String STORED_OTP = "123456";
+    private static final byte[] WRONG_DIGEST = OtpUtils.digestOtp("654321");
+    private static final String WRONG_HASH = OtpUtils.hashOtp("654321");
+    private static final byte[] MAX_ATTEMPTS = Integer.toString(Integer.MAX_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final RedisScript<Long> VERIFY = RedisScript.of(new ClassPathResource("scripts/otp-verify.lua"), Long.class);
+
+    private final AtomicInteger threads = new AtomicInteger();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisTemplate<String, byte[]> otpRedisTemplate;
+
+    @Setup(Level.Trial)
+    public void connect() {
+        connectionFactory = EmbeddedServices.redisConnectionFactory();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        otpRedisTemplate = new RedisTemplate<>();
+        otpRedisTemplate.setConnectionFactory(connectionFactory);
+        otpRedisTemplate.setKeySerializer(new StringRedisSerializer());
+        otpRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        otpRedisTemplate.afterPropertiesSet();
+    }
+
+    @TearDown(Level.Trial)
+    public void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @State(Scope.Thread)
+    public static class Keys {
+
+        String hashKey;
+        String scriptKey;
+
+        @Setup(Level.Iteration)
+        public void seed(OtpVerifyBenchmark benchmark) {
+            if (hashKey == null) {
+                int thread = benchmark.threads.incrementAndGet();
+                hashKey = "otp-bench:four-calls:" + thread;
+                scriptKey = "otp-bench:script:" + thread;
+            }
+            benchmark.stringRedisTemplate.opsForHash().putAll(hashKey, Map.of("hash", OtpUtils.hashOtp(STORED_OTP), "attempts", "0"));
+            benchmark.otpRedisTemplate.opsForValue().set(scriptKey,
+                    OtpStateCodec.encode(new OtpState(OtpUtils.digestOtp(STORED_OTP), 0, Instant.now())));
+        }
+    }
+
+    /** The wrong-guess path before the script; the attempts read and write can interleave with other guesses. */
+    @Benchmark
+    public boolean fourCalls(Keys keys) {
+        if (!stringRedisTemplate.hasKey(keys.hashKey)) {
+            return false;
+        }
+        String stored = (String) stringRedisTemplate.opsForHash().get(keys.hashKey, "hash");
+        int attempts = Integer.parseInt((String) stringRedisTemplate.opsForHash().get(keys.hashKey, "attempts"));
+        if (WRONG_HASH.equals(stored)) {
+            return true;
+        }
+        stringRedisTemplate.opsForHash().put(keys.hashKey, "attempts", Integer.toString(attempts + 1));
+        return false;
+    }
+
+    @Benchmark
+    public Long script(Keys keys) {
+        return otpRedisTemplate.execute(VERIFY, List.of(keys.scriptKey), WRONG_DIGEST, MAX_ATTEMPTS);
+    }
+}
@@ -0,0 +1,124 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compares the refresh token lookup before and after storing digests: a unique varchar(512) holding the
+ * raw token against a unique bytea holding its SHA-256, in two scratch tables of the same rows.
+ * Prints heap and index sizes, then point-lookup latency over random tokens for three rounds; the first
+ * round pays for pages that are not cached yet once the tables outgrow shared_buffers, the later ones are warm.
+ * Not a test; run the main method with {@code [rows=1000000] [jdbc-url]}. Without a URL it starts an
+ * embedded Postgres 17, whose defaults (small shared_buffers, fsync off) make only the ratios meaningful.
+ */
+public class RefreshTokenLookupBenchmark {
+
+    private static final int SAMPLE = 20_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        EmbeddedPostgres postgres = args.length > 1 ? null : EmbeddedPostgres.start();
+        String url = postgres != null ? postgres.getJdbcUrl("postgres", "postgres") : args[1];
+        try (Connection connection = DriverManager.getConnection(url)) {
+            setUp(connection, rows);
+            printSizes(connection);
+            measureLookups(connection);
+            execute(connection, "DROP TABLE bench_token_str", "DROP TABLE bench_token_hash");
+        } finally {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    private static void setUp(Connection connection, int rows) throws Exception {
+        System.out.printf("Loading %d tokens%n", rows);
+        execute(connection,
+                "DROP TABLE IF EXISTS bench_token_str",
+                "DROP TABLE IF EXISTS bench_token_hash",
+                "CREATE TABLE bench_token_str (id uuid PRIMARY KEY DEFAULT gen_random_uuid(), token varchar(512) NOT NULL UNIQUE)",
+                "CREATE TABLE bench_token_hash (id uuid PRIMARY KEY DEFAULT gen_random_uuid(), token_hash bytea NOT NULL UNIQUE)",
+                // Same length as the old tokens: two UUIDs joined by a dash
+                "INSERT INTO bench_token_str (token) SELECT gen_random_uuid()::text || '-' || gen_random_uuid()::text " +
+                        "FROM generate_series(1, " + rows + ")",
+                "INSERT INTO bench_token_hash (token_hash) SELECT sha256(convert_to(token, 'UTF8')) FROM bench_token_str",
+                "VACUUM ANALYZE bench_token_str",
+                "VACUUM ANALYZE bench_token_hash");
+    }
+
+    private static void printSizes(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT relname, pg_size_pretty(pg_relation_size(oid)) FROM pg_class " +
+                     "WHERE relname IN ('bench_token_str', 'bench_token_str_token_key', 'bench_token_hash', 'bench_token_hash_token_hash_key') " +
+                     "ORDER BY relname")) {
+            while (resultSet.next()) {
+                System.out.printf("%-32s %s%n", resultSet.getString(1), resultSet.getString(2));
+            }
+        }
+    }
+
+    private static void measureLookups(Connection connection) throws Exception {
+        List<String> tokens = new ArrayList<>(SAMPLE);
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT token FROM bench_token_str ORDER BY random() LIMIT " + SAMPLE)) {
+            while (resultSet.next()) {
+                tokens.add(resultSet.getString(1));
+            }
+        }
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        try (PreparedStatement byToken = connection.prepareStatement("SELECT id FROM bench_token_str WHERE token = ?");
+             PreparedStatement byHash = connection.prepareStatement("SELECT id FROM bench_token_hash WHERE token_hash = ?")) {
+            for (int round = 0; round < ROUNDS; round++) {
+                Collections.shuffle(tokens);
+                long[] tokenNanos = new long[tokens.size()];
+                long[] hashNanos = new long[tokens.size()];
+                for (int i = 0; i < tokens.size(); i++) {
+                    long start = System.nanoTime();
+                    byToken.setString(1, tokens.get(i));
+                    lookUp(byToken);
+                    tokenNanos[i] = System.nanoTime() - start;
+
+                    // Hashing is part of the new lookup, so it is timed too
+                    start = System.nanoTime();
+                    byHash.setBytes(1, sha256.digest(tokens.get(i).getBytes(StandardCharsets.UTF_8)));
+                    lookUp(byHash);
+                    hashNanos[i] = System.nanoTime() - start;
+                }
+                System.out.printf("round %d  varchar(512) %s  |  bytea sha256 %s%n", round, percentiles(tokenNanos), percentiles(hashNanos));
+            }
+        }
+    }
+
+    private static void lookUp(PreparedStatement statement) throws Exception {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("Sampled token not found");
+            }
+        }
+    }
+
+    private static String percentiles(long[] nanos) {
+        Arrays.sort(nanos);
+        return String.format("p50 %7.1f us  p99 %7.1f us", nanos[nanos.length / 2] / 1e3, nanos[nanos.length * 99 / 100] / 1e3);
+    }
+
+    private static void execute(Connection connection, String... sql) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            for (String each : sql) {
+                statement.execute(each);
+            }
+        }
+    }
+}
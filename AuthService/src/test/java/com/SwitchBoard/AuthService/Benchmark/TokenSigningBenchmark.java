@@ -0,0 +1,136 @@
+package com.SwitchBoard.AuthService.Benchmark;
+
+import com.SwitchBoard.AuthService.DTO.Account.USER_ROLE;
+import com.SwitchBoard.AuthService.Metrics.AuthMetrics;
+import com.SwitchBoard.AuthService.Security.SigningKey;
+import com.SwitchBoard.AuthService.Security.SigningKeyManager;
+import com.SwitchBoard.AuthService.Util.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token signing: the current RS256 path end to end ({@link JwtUtil#generateToken}), and the
+ * raw signature cost of RS256 against ES256 and EdDSA (Ed25519) over the same signing input.
+ * Verification is included because every resource server pays it on each request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class TokenSigningBenchmark {
+
+    private JwtUtil jwtUtil;
+    private SigningKey rs256Key;
+    private byte[] signingInput;
+
+    private Signature rs256Verifier;
+    private byte[] rs256Signature;
+    private Signature es256Signer;
+    private Signature es256Verifier;
+    private byte[] es256Signature;
+    private Signature eddsaSigner;
+    private Signature eddsaVerifier;
+    private byte[] eddsaSignature;
+
+    private final UUID userId = UUID.randomUUID();
+    private final Set<USER_ROLE> roles = Set.of(USER_ROLE.USER);
+
+    @Setup
+    public void setUp() throws Exception {
+        SigningKeyManager signingKeyManager = new SigningKeyManager(new DefaultResourceLoader());
+        ReflectionTestUtils.setField(signingKeyManager, "privateKeyPath", "keys/private.pem");
+        ReflectionTestUtils.setField(signingKeyManager, "publicKeyPath", "keys/public.pem");
+        ReflectionTestUtils.setField(signingKeyManager, "previousPublicKeyPaths", List.of());
+        ReflectionTestUtils.invokeMethod(signingKeyManager, "init");
+        jwtUtil = new JwtUtil(signingKeyManager, new ObjectMapper(), new AuthMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 900L);
+
+        rs256Key = signingKeyManager.getSigningKey();
+        signingInput = jwtUtil.generateToken("jane.doe@example.com", "Jane Doe", userId, roles)
+                .substring(0, 300).getBytes(StandardCharsets.US_ASCII);
+        rs256Signature = rs256Key.sign(signingInput);
+        rs256Verifier = Signature.getInstance(SigningKey.JCA_ALGORITHM);
+        rs256Verifier.initVerify(rs256Key.getPublicKey());
+
+        KeyPairGenerator ecGenerator = KeyPairGenerator.getInstance("EC");
+        ecGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair ecKeys = ecGenerator.generateKeyPair();
+        // JWS carries R||S, not DER
+        es256Signer = Signature.getInstance("SHA256withECDSAinP1363Format");
+        es256Signer.initSign(ecKeys.getPrivate());
+        es256Verifier = Signature.getInstance("SHA256withECDSAinP1363Format");
+        es256Verifier.initVerify(ecKeys.getPublic());
+        es256Signature = es256Sign();
+
+        KeyPair edKeys = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        eddsaSigner = Signature.getInstance("Ed25519");
+        eddsaSigner.initSign(edKeys.getPrivate());
+        eddsaVerifier = Signature.getInstance("Ed25519");
+        eddsaVerifier.initVerify(edKeys.getPublic());
+        eddsaSignature = eddsaSign();
+    }
+
+    @Benchmark
+    public String jwtGenerateTokenRs256() throws Exception {
+        return jwtUtil.generateToken("jane.doe@example.com", "Jane Doe", userId, roles);
+    }
+
+    @Benchmark
+    public byte[] rs256Sign() throws Exception {
+        return rs256Key.sign(signingInput);
+    }
+
+    @Benchmark
+    public byte[] es256Sign() throws Exception {
+        es256Signer.update(signingInput);
+        return es256Signer.sign();
+    }
+
+    @Benchmark
+    public byte[] eddsaSign() throws Exception {
+        eddsaSigner.update(signingInput);
+        return eddsaSigner.sign();
+    }
+
+    @Benchmark
+    public boolean rs256Verify() throws Exception {
+        rs256Verifier.update(signingInput);
+        return rs256Verifier.verify(rs256Signature);
+    }
+
+    @Benchmark
+    public boolean es256Verify() throws Exception {
+        es256Verifier.update(signingInput);
+        return es256Verifier.verify(es256Signature);
+    }
+
+    @Benchmark
+    public boolean eddsaVerify() throws Exception {
+        eddsaVerifier.update(signingInput);
+        return eddsaVerifier.verify(eddsaSignature);
+    }
+}
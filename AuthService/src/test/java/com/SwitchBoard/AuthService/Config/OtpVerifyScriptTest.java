@@ -0,0 +1,109 @@
+package com.SwitchBoard.AuthService.Config;
+
+import com.SwitchBoard.AuthService.Model.OtpState;
+import com.SwitchBoard.AuthService.Support.EmbeddedServices;
+import com.SwitchBoard.AuthService.Util.OtpStateCodec;
+import com.SwitchBoard.AuthService.Util.OtpUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Attempt counting of scripts/otp-verify.lua under concurrent guesses, against a real Redis. */
+class OtpVerifyScriptTest {
+
+    private static final String KEY = "otp:{verify-race@example.com}";
+    private static final int GUESSES = 64;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, byte[]> redisTemplate;
+    private static final RedisScript<Long> VERIFY = RedisScript.of(new ClassPathResource("scripts/otp-verify.lua"), Long.class);
+    private static int maxAttempts;
+
+    @BeforeAll
+    static void connect() throws Exception {
+        connectionFactory = EmbeddedServices.redisConnectionFactory();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+        maxAttempts = Integer.parseInt(PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"))
+                .getProperty("otp.max.attempts"));
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void parallelWrongGuessesGetExactlyMaxAttemptsMismatchesThenInvalidate() throws Exception {
+        redisTemplate.opsForValue().set(KEY, OtpStateCodec.encode(new OtpState(OtpUtils.digestOtp("123456"), 0, Instant.now())));
+
+        List<Long> outcomes = guessInParallel("654321");
+
+        // max-1 plain mismatches, then the mismatch that uses up the last attempt and deletes the OTP
+        assertThat(outcomes).filteredOn(outcome -> outcome == 0L).hasSize(maxAttempts - 1);
+        assertThat(outcomes).filteredOn(outcome -> outcome == -2L).hasSize(1);
+        assertThat(outcomes).filteredOn(outcome -> outcome == -1L).hasSize(GUESSES - maxAttempts);
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(verify("123456")).isEqualTo(-1L);
+    }
+
+    @Test
+    void theRightOtpAmongParallelWrongGuessesIsAcceptedAtMostOnce() throws Exception {
+        redisTemplate.opsForValue().set(KEY, OtpStateCodec.encode(new OtpState(OtpUtils.digestOtp("123456"), 0, Instant.now())));
+
+        List<Long> outcomes = guessInParallel("123456");
+
+        assertThat(outcomes).filteredOn(outcome -> outcome == 1L).hasSize(1);
+        assertThat(outcomes).filteredOn(outcome -> outcome == -1L).hasSize(GUESSES - 1);
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+    }
+
+    /** All guesses are released at once from their own threads, each on the shared connection like request threads. */
+    private static List<Long> guessInParallel(String otp) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(GUESSES);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> futures = new ArrayList<>(GUESSES);
+            for (int i = 0; i < GUESSES; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return verify(otp);
+                }));
+            }
+            start.countDown();
+            List<Long> outcomes = new ArrayList<>(GUESSES);
+            for (Future<Long> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Long verify(String otp) {
+        return redisTemplate.execute(VERIFY, List.of(KEY), OtpUtils.digestOtp(otp),
+                Integer.toString(maxAttempts).getBytes(StandardCharsets.US_ASCII));
+    }
+}
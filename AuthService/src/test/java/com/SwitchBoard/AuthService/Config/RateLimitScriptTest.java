@@ -0,0 +1,103 @@
+package com.SwitchBoard.AuthService.Config;
+
+import com.SwitchBoard.AuthService.Support.EmbeddedServices;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Token-bucket behaviour of scripts/rate-limit.lua against a real Redis. */
+class RateLimitScriptTest {
+
+    private static final String IP = "rl:{send-otp}:ip:203.0.113.7";
+    private static final String EMAIL = "rl:{send-otp}:email:jane@example.com";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<Long>> RATE_LIMIT =
+            (RedisScript) RedisScript.of(new ClassPathResource("scripts/rate-limit.lua"), List.class);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = EmbeddedServices.redisConnectionFactory();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void clearBuckets() {
+        redisTemplate.delete(List.of(IP, EMAIL));
+    }
+
+    @Test
+    void allowsTheBurstThenRejectsWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(charge(List.of(IP), "3", "1")).containsExactly(0L, 0L);
+        }
+
+        List<Long> rejected = charge(List.of(IP), "3", "1");
+
+        // One token per minute, and the last one was taken just now
+        assertThat(rejected.get(0)).isEqualTo(1L);
+        assertThat(rejected.get(1)).isBetween(59_000L, 60_000L);
+    }
+
+    @Test
+    void refillsWithElapsedTime() {
+        // Empty 30 s ago at two tokens per minute: exactly one token has come back
+        redisTemplate.opsForHash().putAll(IP, Map.of("t", "0", "ts", Long.toString(serverTimeMillis() - 30_000)));
+
+        assertThat(charge(List.of(IP), "5", "2")).containsExactly(0L, 0L);
+        assertThat(charge(List.of(IP), "5", "2").get(0)).isEqualTo(1L);
+    }
+
+    @Test
+    void refillStopsAtCapacity() {
+        redisTemplate.opsForHash().putAll(IP, Map.of("t", "0", "ts", Long.toString(serverTimeMillis() - 3_600_000)));
+
+        assertThat(charge(List.of(IP), "2", "60")).containsExactly(0L, 0L);
+        assertThat(charge(List.of(IP), "2", "60")).containsExactly(0L, 0L);
+        assertThat(charge(List.of(IP), "2", "60").get(0)).isEqualTo(1L);
+    }
+
+    @Test
+    void rejectionChargesNoBucket() {
+        redisTemplate.opsForHash().putAll(EMAIL, Map.of("t", "0", "ts", Long.toString(serverTimeMillis())));
+
+        List<Long> rejected = charge(List.of(IP, EMAIL), "3", "1", "3", "1");
+
+        assertThat(rejected.get(0)).isEqualTo(2L);
+        assertThat(redisTemplate.hasKey(IP)).isFalse();
+    }
+
+    @Test
+    void setsBucketsToExpireOnceFull() {
+        charge(List.of(IP), "10", "60");
+
+        // Ten tokens at one per second: full again after ten seconds
+        assertThat(redisTemplate.getExpire(IP)).isBetween(9L, 10L);
+    }
+
+    private static List<Long> charge(List<String> keys, String... capacityAndRate) {
+        return redisTemplate.execute(RATE_LIMIT, keys, (Object[]) capacityAndRate);
+    }
+
+    private static long serverTimeMillis() {
+        return redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+    }
+}
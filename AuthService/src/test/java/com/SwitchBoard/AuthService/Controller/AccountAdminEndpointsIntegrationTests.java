@@ -0,0 +1,117 @@
+package com.SwitchBoard.AuthService.Controller;
+
+import com.SwitchBoard.AuthService.DTO.Account.USER_ROLE;
+import com.SwitchBoard.AuthService.Repository.AccountRepository;
+import com.SwitchBoard.AuthService.Support.EmbeddedServices;
+import com.SwitchBoard.AuthService.Util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Bulk export and import sit under the public account paths but need an admin access token. */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AccountAdminEndpointsIntegrationTests {
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.register(registry);
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    void exportRefusesAnonymousRequests() {
+        webTestClient.get().uri("/api/v1/auth/account/export")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.errorCode").isEqualTo("UNAUTHORIZED");
+    }
+
+    @Test
+    void exportRefusesInvalidTokens() {
+        webTestClient.get().uri("/api/v1/auth/account/export")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer not.a.token")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void exportRefusesUsers() throws Exception {
+        webTestClient.get().uri("/api/v1/auth/account/export")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenFor(USER_ROLE.USER.bit()))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody().jsonPath("$.errorCode").isEqualTo("FORBIDDEN");
+    }
+
+    @Test
+    void exportServesAdmins() throws Exception {
+        webTestClient.get().uri("/api/v1/auth/account/export")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenFor(USER_ROLE.ADMIN.bit() | USER_ROLE.USER.bit()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON);
+    }
+
+    @Test
+    void importRefusesAnonymousRequestsAndUsers() throws Exception {
+        String csv = "email,name\nimported-" + UUID.randomUUID() + "@example.com,Imported\n";
+
+        webTestClient.post().uri("/api/v1/auth/account/import")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.post().uri("/api/v1/auth/account/import")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenFor(USER_ROLE.USER.bit()))
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void findsAdminsThroughThePartialIndex() throws Exception {
+        tokenFor(USER_ROLE.ADMIN.bit() | USER_ROLE.USER.bit());
+        tokenFor(USER_ROLE.USER.bit());
+
+        assertThat(accountRepository.findAdmins())
+                .isNotEmpty()
+                .allSatisfy(account -> assertThat(account.getUserRole()).contains(USER_ROLE.ADMIN));
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('idx_account_admin') IS NOT NULL", Boolean.class)).isTrue();
+    }
+
+    /** A token for a new account whose stored roles are {@code roleBits}; the token's own role claim is only USER. */
+    private String tokenFor(int roleBits) throws Exception {
+        String email = "admin-endpoints-" + UUID.randomUUID() + "@example.com";
+        webTestClient.post().uri("/api/v1/auth/account/create")
+                .bodyValue(Map.of("name", "Role Test", "email", email))
+                .exchange()
+                .expectStatus().isCreated();
+        jdbcTemplate.update("UPDATE account SET user_roles = ? WHERE email = ?", roleBits, email);
+        UUID id = jdbcTemplate.queryForObject("SELECT id FROM account WHERE email = ?", UUID.class, email);
+        return jwtUtil.generateToken(email, "Role Test", id, Set.of(USER_ROLE.USER));
+    }
+}
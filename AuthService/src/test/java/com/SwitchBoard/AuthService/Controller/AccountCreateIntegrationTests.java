@@ -0,0 +1,99 @@
+package com.SwitchBoard.AuthService.Controller;
+
+import com.SwitchBoard.AuthService.Support.EmbeddedServices;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Signup through the single conflict-aware insert, against a real Postgres. */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AccountCreateIntegrationTests {
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.register(registry);
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createsTheAccountWithANormalizedEmail() {
+        String email = uniqueEmail();
+
+        create(" " + email.toUpperCase() + " ").expectStatus().isCreated();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT email FROM account WHERE email = ?", String.class, email)).isEqualTo(email);
+    }
+
+    @Test
+    void rejectsATakenEmailWithConflict() {
+        String email = uniqueEmail();
+        create(email).expectStatus().isCreated();
+
+        create(email.toUpperCase())
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody().jsonPath("$.errorCode").isEqualTo("CONFLICT");
+
+        assertThat(accountsWith(email)).isEqualTo(1);
+    }
+
+    @Test
+    void letsExactlyOneOfConcurrentSignupsWin() throws Exception {
+        String email = uniqueEmail();
+        int signups = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> statuses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(signups)) {
+            for (int i = 0; i < signups; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return create(email).returnResult(Void.class).getStatus();
+                }));
+            }
+            start.countDown();
+        }
+
+        List<HttpStatusCode> results = new ArrayList<>();
+        for (Future<HttpStatusCode> status : statuses) {
+            results.add(status.get());
+        }
+        assertThat(results).filteredOn(HttpStatus.CREATED::equals).hasSize(1);
+        assertThat(results).filteredOn(HttpStatus.CONFLICT::equals).hasSize(signups - 1);
+        assertThat(accountsWith(email)).isEqualTo(1);
+    }
+
+    private WebTestClient.ResponseSpec create(String email) {
+        return webTestClient.post().uri("/api/v1/auth/account/create")
+                .bodyValue(Map.of("name", "Test User", "email", email))
+                .exchange();
+    }
+
+    private int accountsWith(String email) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM account WHERE lower(email) = ?", Integer.class, email);
+    }
+
+    private static String uniqueEmail() {
+        return "signup-" + UUID.randomUUID() + "@example.com";
+    }
+}
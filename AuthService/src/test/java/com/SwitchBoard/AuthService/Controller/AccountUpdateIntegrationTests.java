@@ -0,0 +1,159 @@
+package com.SwitchBoard.AuthService.Controller;
+
+import com.SwitchBoard.AuthService.Support.EmbeddedServices;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** PATCH of profile columns with If-Match versioning, against a real Postgres. */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AccountUpdateIntegrationTests {
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.register(registry);
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID id;
+    private String email;
+
+    @BeforeEach
+    void createAccount() {
+        email = "patch-" + UUID.randomUUID() + "@example.com";
+        webTestClient.post().uri("/api/v1/auth/account/create")
+                .bodyValue(Map.of("name", "Patch User", "email", email,
+                        "githubUrl", "https://github.com/patch-user", "aimRole", "Backend"))
+                .exchange()
+                .expectStatus().isCreated();
+        id = jdbcTemplate.queryForObject("SELECT id FROM account WHERE email = ?", UUID.class, email);
+    }
+
+    @Test
+    void servesTheVersionAsETag() {
+        webTestClient.get().uri("/api/v1/auth/account/get/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag(version()));
+    }
+
+    @Test
+    void updatesOnlyTheGivenColumnsAndBumpsTheVersion() {
+        long version = version();
+        // Written by someone else after the client read the account; a full-row save would put back its copy
+        jdbcTemplate.update("UPDATE account SET total_reward_points = 42 WHERE id = ?", id);
+
+        patch(Map.of("mobile", "+15550100"), eTag(version))
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag(version + 1))
+                // Same body as before versioning; the version goes out only in the ETag
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data").isEmpty();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT name, email, mobile, github_url, aim_role, total_reward_points, version FROM account WHERE id = ?", id);
+        assertThat(row).containsEntry("mobile", "+15550100")
+                .containsEntry("name", "Patch User")
+                .containsEntry("email", email)
+                .containsEntry("github_url", "https://github.com/patch-user")
+                .containsEntry("aim_role", "Backend")
+                .containsEntry("total_reward_points", 42)
+                .containsEntry("version", version + 1);
+    }
+
+    @Test
+    void updatesTheCurrentVersionWithoutIfMatch() {
+        long version = version();
+
+        patch(Map.of("aimRole", "Platform"), null)
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag(version + 1));
+    }
+
+    @Test
+    void rejectsAStaleIfMatch() {
+        long version = version();
+        patch(Map.of("mobile", "+15550101"), eTag(version)).expectStatus().isOk();
+
+        patch(Map.of("mobile", "+15550102"), eTag(version))
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                .expectBody().jsonPath("$.errorCode").isEqualTo("PRECONDITION_FAILED");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT mobile FROM account WHERE id = ?", String.class, id)).isEqualTo("+15550101");
+        assertThat(version()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void rejectsWeakAndMalformedIfMatch() {
+        long version = version();
+
+        // Only strong comparison can guard a write (RFC 9110 section 13.1.1)
+        patch(Map.of("mobile", "+15550103"), "W/" + eTag(version)).expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        patch(Map.of("mobile", "+15550103"), "\"not-a-version\"").expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        patch(Map.of("mobile", "+15550103"), String.valueOf(version)).expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        assertThat(version()).isEqualTo(version);
+        assertThat(jdbcTemplate.queryForObject("SELECT mobile FROM account WHERE id = ?", String.class, id)).isNull();
+    }
+
+    @Test
+    void returnsNotFoundForAnUnknownAccount() {
+        UUID unknown = UUID.randomUUID();
+
+        patchAccount(unknown, Map.of("mobile", "+15550104"), null).expectStatus().isNotFound();
+        patchAccount(unknown, Map.of("mobile", "+15550104"), eTag(0)).expectStatus().isNotFound();
+    }
+
+    @Test
+    void keepsTheVersionForAnEmptyPatch() {
+        long version = version();
+
+        patch(Map.of(), eTag(version))
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag(version));
+        patch(Map.of(), eTag(version + 1)).expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        assertThat(version()).isEqualTo(version);
+    }
+
+    private WebTestClient.ResponseSpec patch(Map<String, Object> updates, String ifMatch) {
+        return patchAccount(id, updates, ifMatch);
+    }
+
+    private WebTestClient.ResponseSpec patchAccount(UUID accountId, Map<String, Object> updates, String ifMatch) {
+        return webTestClient.patch().uri("/api/v1/auth/account/update/{id}", accountId)
+                .headers(headers -> {
+                    if (ifMatch != null) {
+                        headers.set(HttpHeaders.IF_MATCH, ifMatch);
+                    }
+                })
+                .bodyValue(updates)
+                .exchange();
+    }
+
+    private long version() {
+        return jdbcTemplate.queryForObject("SELECT version FROM account WHERE id = ?", Long.class, id);
+    }
+
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+}
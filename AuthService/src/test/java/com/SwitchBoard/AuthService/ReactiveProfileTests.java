@@ -0,0 +1,90 @@
+package com.SwitchBoard.AuthService;
+
+import com.SwitchBoard.AuthService.Controller.AccountController;
+import com.SwitchBoard.AuthService.Controller.AuthController;
+import com.SwitchBoard.AuthService.Controller.ReactiveAuthController;
+import com.SwitchBoard.AuthService.Support.EmbeddedServices;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** The {@code reactive} profile serves only its WebFlux handlers; no servlet controller may run on the event loop. */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveProfileTests {
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.register(registry);
+    }
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void registersOnlyTheReactiveControllers() {
+        assertThat(context.getBeanNamesForType(ReactiveAuthController.class)).hasSize(1);
+        assertThat(context.getBeanNamesForType(AuthController.class)).isEmpty();
+        assertThat(context.getBeanNamesForType(AccountController.class)).isEmpty();
+    }
+
+    @Test
+    void leavesAccountEndpointsToTheServletStack() {
+        webTestClient.get().uri("/api/v1/auth/account/get/{id}", "00000000-0000-0000-0000-000000000000")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void servesJwks() {
+        webTestClient.get().uri("/.well-known/jwks.json")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag");
+    }
+
+    @Test
+    void rateLimitsVerifyOtpPerEmail() {
+        String email = "reactive-limit-" + UUID.randomUUID() + "@example.com";
+        // app.rate-limit.endpoints.verify-otp.email.capacity; the body still reaches the handler after the check
+        for (int i = 0; i < 10; i++) {
+            webTestClient.post().uri("/api/v1/auth/verify-otp")
+                    .bodyValue(Map.of("email", email, "otp", "000000"))
+                    .exchange()
+                    .expectStatus().value(status -> assertThat(status).isNotIn(400, 429));
+        }
+
+        webTestClient.post().uri("/api/v1/auth/verify-otp")
+                .bodyValue(Map.of("email", email.toUpperCase(Locale.ROOT), "otp", "000000"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().exists(HttpHeaders.RETRY_AFTER)
+                .expectBody().jsonPath("$.errorCode").isEqualTo("TOO_MANY_REQUESTS");
+    }
+
+    @Test
+    void refusesOversizedRateLimitedBodies() {
+        webTestClient.post().uri("/api/v1/auth/send-otp")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\"" + "a".repeat(5000) + "@example.com\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+}
@@ -0,0 +1,29 @@
+package com.SwitchBoard.AuthService.Service.Account.impl;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountResponseDto;
+import com.SwitchBoard.AuthService.DTO.Account.AccountView;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+/** Generated alternatives to {@code AccountServiceImpl.toResponseDto}, compared in {@link AccountMappingBenchmark}. */
+final class AccountMappers {
+
+    static final BuilderMapper BUILDER = Mappers.getMapper(BuilderMapper.class);
+    static final SetterMapper SETTER = Mappers.getMapper(SetterMapper.class);
+
+    private AccountMappers() {
+    }
+
+    /** Goes through the Lombok builder, like the hand-written mapping. */
+    @Mapper
+    interface BuilderMapper {
+        AccountResponseDto toResponseDto(AccountView account);
+    }
+
+    /** No-args constructor plus setters. */
+    @Mapper(builder = @Builder(disableBuilder = true))
+    interface SetterMapper {
+        AccountResponseDto toResponseDto(AccountView account);
+    }
+}
@@ -0,0 +1,73 @@
+package com.SwitchBoard.AuthService.Service.Account.impl;
+
+import com.SwitchBoard.AuthService.DTO.Account.AccountResponseDto;
+import com.SwitchBoard.AuthService.DTO.Account.AccountView;
+import com.SwitchBoard.AuthService.DTO.Account.USER_ROLE;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projection to response DTO mapping, run once per row by the listing and export endpoints:
+ * the hand-written builder mapping against MapStruct mappers with and without the builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class AccountMappingBenchmark {
+
+    private final AccountView row = new Row();
+
+    @Benchmark
+    public AccountResponseDto handWrittenBuilder() {
+        return AccountServiceImpl.toResponseDto(row);
+    }
+
+    @Benchmark
+    public AccountResponseDto mapstructBuilder() {
+        return AccountMappers.BUILDER.toResponseDto(row);
+    }
+
+    @Benchmark
+    public AccountResponseDto mapstructSetters() {
+        return AccountMappers.SETTER.toResponseDto(row);
+    }
+
+    /** Stands in for the Hibernate tuple-backed projection. */
+    private static final class Row implements AccountView {
+        private final UUID id = UUID.randomUUID();
+        private final Date deadline = new Date();
+        private final Set<USER_ROLE> roles = Set.of(USER_ROLE.USER);
+
+        public UUID getId() { return id; }
+        public String getName() { return "Jane Doe"; }
+        public String getEmail() { return "jane.doe@example.com"; }
+        public String getMobile() { return "+910000000000"; }
+        public String getLinkedinUrl() { return "https://linkedin.com/in/janedoe"; }
+        public String getGithubUrl() { return "https://github.com/janedoe"; }
+        public String getLeetcodeUrl() { return "https://leetcode.com/janedoe"; }
+        public String getCvPath() { return "cv/janedoe.pdf"; }
+        public Date getDeadline() { return deadline; }
+        public String getAimRole() { return "Backend Engineer"; }
+        public String getCurrentRole() { return "Student"; }
+        public int getTotalRewardPoints() { return 120; }
+        public int getTaskAssignedCount() { return 14; }
+        public int getTaskCompletedCount() { return 9; }
+        public Set<USER_ROLE> getUserRole() { return roles; }
+        public long getVersion() { return 3; }
+    }
+}
@@ -0,0 +1,147 @@
+package com.SwitchBoard.AuthService.Service;
+
+import com.SwitchBoard.AuthService.Repository.RefreshTokenRepository;
+import com.SwitchBoard.AuthService.Support.EmbeddedServices;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Expand, backfill and contract of the legacy columns against a real Postgres: each test puts its column back,
+ * fills it the way the previous release wrote it, and db/contract.sql removes it again at the end.
+ */
+@SpringBootTest(properties = {
+        "schema.backfill.initial-delay-ms=3600000",
+        "schema.backfill.batch-size=2"
+})
+class SchemaBackfillJobIntegrationTests {
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.register(registry);
+    }
+
+    @Autowired
+    private SchemaBackfillJob schemaBackfillJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    void convertsLegacyRolesAndKeepsBothColumnsInStepUntilTheContract() {
+        String prefix = "backfill-" + UUID.randomUUID() + "-";
+        // As left by the previous release: user_roles added by ddl-auto, still nullable
+        jdbcTemplate.execute("ALTER TABLE account ADD COLUMN user_role varchar(255)[]");
+        jdbcTemplate.execute("ALTER TABLE account ALTER COLUMN user_roles DROP NOT NULL");
+        try {
+            // Rows written by the previous release before the expand step ran
+            for (int i = 0; i < 5; i++) {
+                insertLegacy(prefix + i + "@example.com", i % 2 == 0 ? "{ADMIN,USER}" : "{USER}");
+            }
+            runScript("db/migration.sql");
+            assertThat(unconverted(prefix)).isEqualTo(5);
+
+            schemaBackfillJob.backfill();
+
+            assertThat(unconverted(prefix)).isZero();
+            assertThat(userRoles(prefix + "0@example.com")).isEqualTo(3);
+            assertThat(userRoles(prefix + "1@example.com")).isEqualTo(2);
+
+            // The previous release keeps inserting and updating user_role during the rollout
+            insertLegacy(prefix + "late@example.com", "{USER,SUPER_ADMIN}");
+            assertThat(userRoles(prefix + "late@example.com")).isEqualTo(6);
+            jdbcTemplate.update("UPDATE account SET user_role = '{ADMIN}' WHERE email = ?", prefix + "late@example.com");
+            assertThat(userRoles(prefix + "late@example.com")).isEqualTo(1);
+
+            // ...and reads what this release writes
+            jdbcTemplate.update("UPDATE account SET user_roles = 5 WHERE email = ?", prefix + "1@example.com");
+            assertThat(jdbcTemplate.queryForObject("SELECT array_to_string(user_role, ',') FROM account WHERE email = ?",
+                    String.class, prefix + "1@example.com")).isEqualTo("ADMIN,SUPER_ADMIN");
+        } finally {
+            runScript("db/contract.sql");
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM information_schema.columns " +
+                "WHERE table_name = 'account' AND column_name = 'user_role'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT is_nullable FROM information_schema.columns " +
+                "WHERE table_name = 'account' AND column_name = 'user_roles'", String.class)).isEqualTo("NO");
+        schemaBackfillJob.backfill();
+    }
+
+    @Test
+    void hashesLegacyRefreshTokensAndDropsThemAtTheContract() {
+        String prefix = "legacy-token-" + UUID.randomUUID() + "-";
+        UUID accountId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO account (id, name, email, total_reward_points, task_assigned_count, " +
+                "task_completed_count, user_roles) VALUES (?, 'Legacy', ?, 0, 0, 0, 2)", accountId, prefix + "@example.com");
+        jdbcTemplate.execute("ALTER TABLE refresh_tokens ADD COLUMN token varchar(512) UNIQUE");
+        try {
+            // Tokens stored in plaintext by the previous release before the expand step ran
+            for (int i = 0; i < 5; i++) {
+                insertLegacyToken(accountId, prefix + i);
+            }
+            runScript("db/migration.sql");
+
+            schemaBackfillJob.backfill();
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(refreshTokenRepository.findGrantByTokenHash(RefreshTokenService.hashToken(prefix + i))).isPresent();
+            }
+            // The previous release keeps issuing plaintext tokens during the rollout, and this release none
+            insertLegacyToken(accountId, prefix + "late");
+            assertThat(refreshTokenRepository.findGrantByTokenHash(RefreshTokenService.hashToken(prefix + "late"))).isPresent();
+            jdbcTemplate.update("INSERT INTO refresh_tokens (id, token_hash, expiry_date, account_id, created_at, is_revoked) " +
+                    "VALUES (?, ?, now() + interval '1 day', ?, now(), false)",
+                    UUID.randomUUID(), RefreshTokenService.hashToken(prefix + "new"), accountId);
+        } finally {
+            runScript("db/contract.sql");
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM information_schema.columns " +
+                "WHERE table_name = 'refresh_tokens' AND column_name = 'token'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM refresh_tokens WHERE account_id = ?",
+                Integer.class, accountId)).isEqualTo(7);
+        assertThat(refreshTokenRepository.findGrantByTokenHash(RefreshTokenService.hashToken(prefix + "late"))).isPresent();
+    }
+
+    private void insertLegacyToken(UUID accountId, String token) {
+        jdbcTemplate.update("INSERT INTO refresh_tokens (id, token, expiry_date, account_id, created_at, is_revoked) " +
+                "VALUES (?, ?, now() + interval '1 day', ?, now(), false)", UUID.randomUUID(), token, accountId);
+    }
+
+    private void insertLegacy(String email, String roles) {
+        jdbcTemplate.update("INSERT INTO account (id, name, email, total_reward_points, task_assigned_count, " +
+                "task_completed_count, user_role) VALUES (?, 'Legacy', ?, 0, 0, 0, ?::varchar[])", UUID.randomUUID(), email, roles);
+    }
+
+    private int unconverted(String prefix) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM account WHERE email LIKE ? AND user_roles IS NULL",
+                Integer.class, prefix + "%");
+    }
+
+    private int userRoles(String email) {
+        return jdbcTemplate.queryForObject("SELECT user_roles FROM account WHERE email = ?", Integer.class, email);
+    }
+
+    private void runScript(String location) {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(location));
+        populator.setSeparator("^^^ END OF SCRIPT ^^^");
+        populator.execute(dataSource);
+    }
+}
@@ -0,0 +1,104 @@
+package com.SwitchBoard.AuthService.Support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * Embedded servers shared by every test in the JVM, started on first use and stopped at exit;
+ * the same ones {@link com.SwitchBoard.AuthService.Benchmark.LoadHarness} runs against.
+ */
+public final class EmbeddedServices {
+
+    private static RedisServer redis;
+    private static EmbeddedPostgres postgres;
+    private static EmbeddedKafkaKraftBroker kafka;
+
+    private EmbeddedServices() {
+    }
+
+    public static synchronized int redisPort() {
+        if (redis == null) {
+            try {
+                RedisServer server = new RedisServer(freePort());
+                server.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> stopQuietly(server)));
+                redis = server;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return redis.ports().get(0);
+    }
+
+    /** A started connection factory for the embedded Redis; the caller destroys it. */
+    public static LettuceConnectionFactory redisConnectionFactory() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", redisPort()));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    public static synchronized String postgresJdbcUrl() {
+        if (postgres == null) {
+            try {
+                EmbeddedPostgres server = EmbeddedPostgres.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        server.close();
+                    } catch (IOException ignored) {
+                        // Exiting anyway
+                    }
+                }));
+                postgres = server;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        // Credentials go in their own properties; the R2DBC pool rejects them in the URL
+        return "jdbc:postgresql://localhost:" + postgres.getPort() + "/postgres";
+    }
+
+    public static synchronized String kafkaBootstrapServers() {
+        if (kafka == null) {
+            EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, 3, "otp-topic", "onboarding-topic");
+            broker.afterPropertiesSet();
+            Runtime.getRuntime().addShutdownHook(new Thread(broker::destroy));
+            kafka = broker;
+        }
+        return kafka.getBrokersAsString();
+    }
+
+    /** Points a {@code @SpringBootTest} context at the embedded servers; use from a {@code @DynamicPropertySource} method. */
+    public static void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", EmbeddedServices::postgresJdbcUrl);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", EmbeddedServices::redisPort);
+        registry.add("spring.kafka.bootstrap-servers", EmbeddedServices::kafkaBootstrapServers);
+        registry.add("eureka.client.enabled", () -> "false");
+        registry.add("logging.config", () -> "classpath:logback-benchmark.xml");
+    }
+
+    private static void stopQuietly(RedisServer server) {
+        try {
+            server.stop();
+        } catch (IOException ignored) {
+            // Exiting anyway
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.SwitchBoard.AuthService.Util;
+
+import com.SwitchBoard.AuthService.Model.OtpState;
+import com.SwitchBoard.AuthService.Support.EmbeddedServices;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Ties the Java layout of OtpStateCodec to the one scripts/otp-verify.lua reads and rewrites. */
+class OtpStateCodecTest {
+
+    private static final String KEY = "otp:{codec-test@example.com}";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, byte[]> redisTemplate;
+    private static final RedisScript<Long> VERIFY = RedisScript.of(new ClassPathResource("scripts/otp-verify.lua"), Long.class);
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = EmbeddedServices.redisConnectionFactory();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void decodeReadsWhatEncodeWrote() throws Exception {
+        OtpState state = new OtpState(digest("123456"), 300, Instant.ofEpochSecond(1_760_000_000L));
+
+        OtpState decoded = OtpStateCodec.decode(OtpStateCodec.encode(state));
+
+        assertThat(decoded.getDigest()).isEqualTo(state.getDigest());
+        assertThat(decoded.getAttempts()).isEqualTo(300);
+        assertThat(decoded.getIssuedAt()).isEqualTo(state.getIssuedAt());
+    }
+
+    @Test
+    void scriptRewritesAttemptsInTheCodecLayout() throws Exception {
+        // 127 -> 128 grows the attempts varint to two bytes, so issued-at has to move
+        OtpState state = new OtpState(digest("123456"), 127, Instant.ofEpochSecond(1_760_000_000L));
+        redisTemplate.opsForValue().set(KEY, OtpStateCodec.encode(state));
+
+        assertThat(verify("654321", 1000)).isEqualTo(0L);
+
+        OtpState stored = OtpStateCodec.decode(redisTemplate.opsForValue().get(KEY));
+        assertThat(stored.getDigest()).isEqualTo(state.getDigest());
+        assertThat(stored.getAttempts()).isEqualTo(128);
+        assertThat(stored.getIssuedAt()).isEqualTo(state.getIssuedAt());
+
+        assertThat(verify("123456", 1000)).isEqualTo(1L);
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+    }
+
+    @Test
+    void scriptDeletesTheOtpAtTheAttemptLimit() throws Exception {
+        redisTemplate.opsForValue().set(KEY, OtpStateCodec.encode(new OtpState(digest("123456"), 4, Instant.now())));
+
+        assertThat(verify("654321", 5)).isEqualTo(-2L);
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(verify("123456", 5)).isEqualTo(-1L);
+    }
+
+    private static Long verify(String otp, int maxAttempts) throws Exception {
+        byte[] digest = digest(otp);
+        return redisTemplate.execute(VERIFY, List.of(KEY), digest,
+                Integer.toString(maxAttempts).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] digest(String otp) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(otp.getBytes(StandardCharsets.UTF_8));
+    }
+}